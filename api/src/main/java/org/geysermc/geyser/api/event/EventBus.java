@@ -27,9 +27,14 @@ package org.geysermc.geyser.api.event;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.event.Event;
+import org.geysermc.event.FireResult;
 import org.geysermc.event.bus.OwnedEventBus;
+import org.geysermc.event.subscribe.Subscriber;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Represents a bus capable of subscribing
@@ -39,4 +44,38 @@ public interface EventBus<R extends EventRegistrar> extends OwnedEventBus<R, Eve
     @Override
     @NonNull
     <T extends Event> Set<? extends EventSubscriber<R, T>> subscribers(@NonNull Class<T> eventClass);
+
+    /**
+     * Fires the given event on a separate thread, so that slow subscribers do not hold up the caller.
+     * Subscribers are still called one after another in their post order, but separate events fired
+     * this way may be handled concurrently.
+     * <p>
+     * Only use this for events whose subscribers are documented as thread-agnostic: they run on a shared pool,
+     * not on the thread (such as a session's event loop) that would otherwise have fired the event.
+     *
+     * @param event the event to fire
+     * @return a future completed with the result once every subscriber has been called,
+     *         including subscribers running on their own executor
+     */
+    @NonNull
+    CompletableFuture<FireResult> fireAsync(@NonNull Event event);
+
+    /**
+     * Subscribes to the given event, calling the handler on the given executor instead of the thread firing the event.
+     * The thread firing the event does not wait for the handler, so the handler cannot affect the outcome of the event,
+     * e.g. by cancelling it.
+     *
+     * @param owner the owner of the subscription
+     * @param eventClass the class of the event
+     * @param handler the handler to call
+     * @param executor the executor to call the handler on
+     * @return the subscription
+     */
+    @NonNull
+    <T extends Event, U extends Subscriber<T>> U subscribe(
+        @NonNull R owner,
+        @NonNull Class<T> eventClass,
+        @NonNull Consumer<T> handler,
+        @NonNull Executor executor
+    );
 }
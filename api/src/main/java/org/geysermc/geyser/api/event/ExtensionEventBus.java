@@ -27,9 +27,14 @@ package org.geysermc.geyser.api.event;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.event.Event;
+import org.geysermc.event.FireResult;
+import org.geysermc.event.subscribe.Subscriber;
 import org.geysermc.geyser.api.extension.Extension;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * An {@link EventBus} with additional methods that implicitly
@@ -38,4 +43,18 @@ import java.util.Set;
 public interface ExtensionEventBus extends org.geysermc.event.bus.EventBus<Event, EventSubscriber<Extension, ? extends Event>> {
     @Override
     @NonNull <T extends Event> Set<? extends EventSubscriber<EventRegistrar, T>> subscribers(@NonNull Class<T> eventClass);
+
+    /**
+     * @see EventBus#fireAsync(Event)
+     */
+    @NonNull CompletableFuture<FireResult> fireAsync(@NonNull Event event);
+
+    /**
+     * @see EventBus#subscribe(EventRegistrar, Class, Consumer, Executor)
+     */
+    @NonNull <T extends Event, U extends Subscriber<T>> U subscribe(
+        @NonNull Class<T> eventClass,
+        @NonNull Consumer<T> handler,
+        @NonNull Executor executor
+    );
 }
@@ -35,6 +35,8 @@ tasks.withType<com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar> {
         exclude(dependency("com.google.*:.*"))
         exclude(dependency("io.netty.incubator:.*"))
         exclude(dependency("io.netty:netty-transport-native-epoll:.*"))
+        exclude(dependency("io.netty:netty-transport-classes-io_uring:.*"))
+        exclude(dependency("io.netty:netty-transport-native-io_uring:.*"))
         exclude(dependency("io.netty:netty-transport-native-unix-common:.*"))
         exclude(dependency("io.netty:netty-handler:.*"))
         exclude(dependency("io.netty:netty-common:.*"))
@@ -26,7 +26,6 @@
 package org.geysermc.geyser;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.channel.epoll.Epoll;
@@ -77,8 +76,10 @@ import org.geysermc.geyser.extension.GeyserExtensionManager;
 import org.geysermc.geyser.impl.MinecraftVersionImpl;
 import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.WorldManager;
+import org.geysermc.geyser.metrics.PrometheusExporter;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.network.netty.GeyserServer;
+import org.geysermc.geyser.pack.http.ResourcePackHttpServer;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.loader.ResourcePackLoader;
@@ -88,6 +89,7 @@ import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.PendingMicrosoftAuthentication;
 import org.geysermc.geyser.session.SessionDisconnectListener;
 import org.geysermc.geyser.session.SessionManager;
+import org.geysermc.geyser.session.auth.AuthChainStore;
 import org.geysermc.geyser.session.cache.RegistryCache;
 import org.geysermc.geyser.skin.FloodgateSkinUploader;
 import org.geysermc.geyser.skin.ProvidedSkins;
@@ -96,15 +98,14 @@ import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.text.MinecraftLocale;
 import org.geysermc.geyser.translator.text.MessageTranslator;
 import org.geysermc.geyser.util.AssetUtils;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.geyser.util.CooldownUtils;
 import org.geysermc.geyser.util.Metrics;
 import org.geysermc.geyser.util.NewsHandler;
+import org.geysermc.geyser.util.StartupProfiler;
 import org.geysermc.geyser.util.VersionCheckUtils;
 import org.geysermc.geyser.util.WebUtils;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
@@ -120,7 +121,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
@@ -174,10 +174,12 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
     private final GeyserExtensionManager extensionManager;
 
     private Metrics metrics;
+    private PrometheusExporter metricsExporter;
+    private ResourcePackHttpServer resourcePackHttpServer;
 
     private PendingMicrosoftAuthentication pendingMicrosoftAuthentication;
     @Getter(AccessLevel.NONE)
-    private Map<String, String> savedAuthChains;
+    private AuthChainStore savedAuthChains;
 
     @Getter
     private static GeyserImpl instance;
@@ -194,6 +196,11 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
     @Setter
     private boolean isEnabled;
 
+    /**
+     * How long each phase of the initial startup took
+     */
+    private List<StartupProfiler.PhaseTiming> startupTimings = List.of();
+
     private GeyserImpl(PlatformType platformType, GeyserBootstrap bootstrap) {
         instance = this;
 
@@ -234,20 +241,24 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         }
         logger.info("******************************************");
 
+        StartupProfiler profiler = new StartupProfiler();
+
         /*
         First load the registries and then populate them.
         Both the block registries and the common registries depend on each other,
         so maintaining this order is crucial for Geyser to load.
          */
-        Registries.load();
-        BlockRegistries.populate();
-        Registries.populate();
-
-        RegistryCache.init();
+        StartupProfiler.Phase registries = profiler.run("Load registries", Registries::load);
 
         /* Initialize translators */
-        EntityDefinitions.init();
-        MessageTranslator.init();
+        // These only fill their own registries, so they can be set up while the block and item registries are populated
+        profiler.runAsync("Entity definitions", EntityDefinitions::init, registries);
+        profiler.runAsync("Message translator", MessageTranslator::init);
+
+        StartupProfiler.Phase blocks = profiler.run("Populate block registries", BlockRegistries::populate, registries);
+        StartupProfiler.Phase populated = profiler.run("Populate registries", Registries::populate, blocks);
+        profiler.run("Registry cache", RegistryCache::init, populated);
+        profiler.awaitAll();
 
         // Download the latest asset list and cache it
         AssetUtils.generateAssetCache().whenComplete((aVoid, ex) -> {
@@ -264,7 +275,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
 
             ProvidedSkins.init();
 
-            CompletableFuture.runAsync(AssetUtils::downloadAndRunClientJarTasks);
+            CompletableFuture.runAsync(AssetUtils::downloadAndRunClientJarTasks, BlockingIoExecutor.get());
         });
 
         // Register our general permissions when possible
@@ -272,7 +283,9 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         // Replace disconnect messages whenever necessary
         eventBus.subscribe(this, SessionDisconnectEventImpl.class, SessionDisconnectListener::onSessionDisconnect);
 
-        startInstance();
+        profiler.run("Start instance", this::startInstance);
+        this.startupTimings = profiler.timings();
+        profiler.log(logger);
 
         GeyserConfiguration config = bootstrap.getGeyserConfig();
 
@@ -462,6 +475,9 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
                 }
             }).join();
 
+        this.metricsExporter = PrometheusExporter.startIfEnabled(logger);
+        this.resourcePackHttpServer = ResourcePackHttpServer.startIfEnabled(this);
+
         if (config.getRemote().authType() == AuthType.FLOODGATE) {
             try {
                 Key key = new AesKeyProducer().produceFrom(config.getFloodgateKeyPath());
@@ -567,36 +583,10 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         }
 
         if (config.getRemote().authType() == AuthType.ONLINE) {
-            // May be written/read to on multiple threads from each GeyserSession as well as writing the config
-            savedAuthChains = new ConcurrentHashMap<>();
-
-            File authChainsFile = bootstrap.getSavedUserLoginsFolder().resolve(Constants.SAVED_AUTH_CHAINS_FILE).toFile();
-            if (authChainsFile.exists()) {
-                TypeReference<Map<String, String>> type = new TypeReference<>() { };
-
-                Map<String, String> authChainFile = null;
-                try {
-                    authChainFile = JSON_MAPPER.readValue(authChainsFile, type);
-                } catch (IOException e) {
-                    logger.error("Cannot load saved user tokens!", e);
-                }
-                if (authChainFile != null) {
-                    List<String> validUsers = config.getSavedUserLogins();
-                    boolean doWrite = false;
-                    for (Map.Entry<String, String> entry : authChainFile.entrySet()) {
-                        String user = entry.getKey();
-                        if (!validUsers.contains(user)) {
-                            // Perform a write to this file to purge the now-unused name
-                            doWrite = true;
-                            continue;
-                        }
-                        savedAuthChains.put(user, entry.getValue());
-                    }
-                    if (doWrite) {
-                        scheduleAuthChainsWrite();
-                    }
-                }
-            }
+            Path folder = bootstrap.getSavedUserLoginsFolder();
+            List<String> validUsers = config.getSavedUserLogins();
+            savedAuthChains = AuthChainStore.load(folder.resolve(Constants.SAVED_AUTH_CHAINS_FILE),
+                folder.resolve(Constants.SAVED_AUTH_CHAINS_JOURNAL_FILE), validUsers::contains, scheduledThread, logger);
         } else {
             savedAuthChains = null;
         }
@@ -679,11 +669,15 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
             bootstrap.getGeyserLogger().info(GeyserLocale.getLocaleStringLog("geyser.core.shutdown.kick.done"));
         }
 
+        runIfNonNull(savedAuthChains, AuthChainStore::close);
         runIfNonNull(scheduledThread, ScheduledExecutorService::shutdown);
         runIfNonNull(geyserServer, GeyserServer::shutdown);
         runIfNonNull(skinUploader, FloodgateSkinUploader::close);
         runIfNonNull(newsHandler, NewsHandler::shutdown);
         runIfNonNull(erosionUnixListener, UnixSocketClientListener::close);
+        runIfNonNull(metricsExporter, PrometheusExporter::close);
+        runIfNonNull(resourcePackHttpServer, ResourcePackHttpServer::close);
+        BlockingIoExecutor.shutdown();
 
         ResourcePackLoader.clear();
 
@@ -859,9 +853,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
 
         // We can safely overwrite old instances because MsaAuthenticationService#getLoginResponseFromRefreshToken
         // refreshes the token for us
-        if (!Objects.equals(authChain, savedAuthChains.put(bedrockName, authChain))) {
-            scheduleAuthChainsWrite();
-        }
+        savedAuthChains.put(bedrockName, authChain);
     }
 
     private <T> void runIfNonNull(T nullable, Consumer<T> consumer) {
@@ -869,19 +861,4 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
             consumer.accept(nullable);
         }
     }
-
-    private void scheduleAuthChainsWrite() {
-        scheduledThread.execute(() -> {
-            // Ensure all writes are handled on the same thread
-            File savedAuthChains = getBootstrap().getSavedUserLoginsFolder().resolve(Constants.SAVED_AUTH_CHAINS_FILE).toFile();
-            TypeReference<Map<String, String>> type = new TypeReference<>() { };
-            try (FileWriter writer = new FileWriter(savedAuthChains)) {
-                JSON_MAPPER.writerFor(type)
-                        .withDefaultPrettyPrinter()
-                        .writeValue(writer, this.savedAuthChains);
-            } catch (IOException e) {
-                getLogger().error("Unable to write saved refresh tokens!", e);
-            }
-        });
-    }
 }
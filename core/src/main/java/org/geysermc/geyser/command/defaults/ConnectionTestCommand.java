@@ -31,6 +31,7 @@ import org.geysermc.geyser.api.util.TriState;
 import org.geysermc.geyser.command.GeyserCommand;
 import org.geysermc.geyser.command.GeyserCommandSource;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.geyser.util.LoopbackUtil;
 import org.geysermc.geyser.util.WebUtils;
 import org.incendo.cloud.CommandManager;
@@ -219,7 +220,7 @@ public class ConnectionTestCommand extends GeyserCommand {
                 source.sendMessage("An error occurred while trying to check your connection! Check the console for more information.");
                 geyser.getLogger().error("Error while trying to check your connection!", e);
             }
-        });
+        }, BlockingIoExecutor.get());
     }
 
     private void sendLinks(GeyserCommandSource sender) {
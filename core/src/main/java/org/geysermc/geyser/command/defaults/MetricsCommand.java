@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.command.defaults;
+
+import com.google.common.cache.CacheStats;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.util.TriState;
+import org.geysermc.geyser.command.GeyserCommand;
+import org.geysermc.geyser.command.GeyserCommandSource;
+import org.geysermc.geyser.event.EventListenerTimings;
+import org.geysermc.geyser.event.GeyserEventBus;
+import org.geysermc.geyser.level.chunk.SharedSectionStore;
+import org.geysermc.geyser.metrics.PacketMetrics;
+import org.geysermc.geyser.network.netty.GeyserServer;
+import org.geysermc.geyser.network.netty.handler.ConnectionRequestLimiter;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkCache;
+import org.geysermc.geyser.text.ChatColor;
+import org.geysermc.geyser.text.GeyserLocale;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.context.CommandContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsCommand extends GeyserCommand {
+
+    private static final int SHOWN_PACKETS = 10;
+    private static final int SHOWN_LISTENERS = 5;
+
+    public MetricsCommand(String name, String description, String permission) {
+        super(name, description, permission, TriState.NOT_SET);
+    }
+
+    @Override
+    public void register(CommandManager<GeyserCommandSource> manager) {
+        super.register(manager);
+        manager.command(baseBuilder(manager)
+            .literal("reset")
+            .handler(context -> {
+                PacketMetrics.reset();
+                context.sender().sendMessage(ChatColor.GREEN + GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.reset", context.sender().locale()));
+            }));
+    }
+
+    @Override
+    public void execute(CommandContext<GeyserCommandSource> context) {
+        GeyserCommandSource source = context.sender();
+        String locale = source.locale();
+
+        if (PacketMetrics.ENABLED) {
+            long seconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - PacketMetrics.collectingSince());
+            source.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.packets", locale, seconds));
+
+            List<PacketMetrics.PacketSummary> summaries = PacketMetrics.summaries();
+            for (int i = 0; i < Math.min(SHOWN_PACKETS, summaries.size()); i++) {
+                PacketMetrics.PacketSummary summary = summaries.get(i);
+                StringBuilder line = new StringBuilder()
+                    .append(ChatColor.AQUA).append(summary.packet()).append(ChatColor.RESET).append(": ")
+                    .append(GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.packet", locale, summary.translations(),
+                        millis(summary.totalMillis()), micros(summary.meanNanos()), micros(summary.p99Nanos())));
+                if (summary.failures() > 0) {
+                    line.append(ChatColor.RED).append(GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.packet.failed", locale, summary.failures()));
+                }
+                if (summary.upstreamPacketsOut() > 0) {
+                    line.append(GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.packet.sent", locale, summary.upstreamBytesOut() / 1024));
+                }
+                source.sendMessage(line.toString());
+            }
+        } else {
+            // The remaining statistics are collected regardless of this flag
+            source.sendMessage(ChatColor.RED + GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.disabled", locale));
+        }
+
+        List<Integer> depths = PacketMetrics.playerEventLoopQueueDepths();
+        int total = 0;
+        int max = 0;
+        for (int depth : depths) {
+            total += depth;
+            max = Math.max(max, depth);
+        }
+        sendStat(source, "geyser.commands.metrics.event_loops", depths.size(), total, max);
+
+        if (ChunkCache.globalChunkCount() > 0 || ChunkCache.globalEvictions() > 0) {
+            sendStat(source, "geyser.commands.metrics.chunk_caches", ChunkCache.globalChunkCount(),
+                mebibytes(ChunkCache.globalMemoryUsage()), ChunkCache.globalEvictions());
+        }
+        if (SharedSectionStore.ENABLED) {
+            sendStat(source, "geyser.commands.metrics.shared_sections", SharedSectionStore.size(), mebibytes(SharedSectionStore.memoryUsage()));
+        }
+
+        GeyserServer server = GeyserImpl.getInstance().getGeyserServer();
+        if (server != null) {
+            ConnectionRequestLimiter limiter = server.getConnectionRequestLimiter();
+            sendStat(source, "geyser.commands.metrics.connection_requests", limiter.getAdmitted().sum(),
+                limiter.getDroppedBySubnet().sum(), limiter.getDroppedGlobally().sum());
+        }
+
+        if (GeyserImpl.getInstance().getEventBus() instanceof GeyserEventBus eventBus) {
+            List<EventListenerTimings> timings = eventBus.timings();
+            for (int i = 0; i < Math.min(SHOWN_LISTENERS, timings.size()); i++) {
+                EventListenerTimings timing = timings.get(i);
+                if (timing.calls() == 0) {
+                    break;
+                }
+                if (i == 0) {
+                    source.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.listeners", locale));
+                }
+                source.sendMessage(ChatColor.AQUA + timing.getName() + ChatColor.RESET + ": " + GeyserLocale.getPlayerLocaleString("geyser.commands.metrics.listener",
+                    locale, timing.calls(), millis(timing.totalNanos() / 1_000_000D), micros(timing.maxNanos())));
+            }
+        }
+
+        long hits = 0;
+        long requests = 0;
+        for (GeyserSession session : GeyserImpl.getInstance().onlineConnections()) {
+            CacheStats stats = session.getItemTranslationCache().stats();
+            hits += stats.hitCount();
+            requests += stats.requestCount();
+        }
+        if (requests > 0) {
+            sendStat(source, "geyser.commands.metrics.item_cache", String.format("%.1f", hits * 100.0 / requests), requests);
+        }
+    }
+
+    /**
+     * Sends a statistic as its highlighted {@code key} label followed by {@code key.value} filled with the given values.
+     */
+    private static void sendStat(GeyserCommandSource source, String key, Object... values) {
+        source.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString(key, source.locale()) + " "
+            + ChatColor.RESET + GeyserLocale.getPlayerLocaleString(key + ".value", source.locale(), values));
+    }
+
+    private static String millis(double millis) {
+        return String.format("%.1f", millis);
+    }
+
+    private static String mebibytes(long bytes) {
+        return String.format("%.1f", bytes / (1024D * 1024D));
+    }
+
+    private static String micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos) + "us";
+    }
+}
@@ -30,7 +30,6 @@ import org.geysermc.geyser.GeyserLogger;
 import org.geysermc.geyser.api.network.AuthType;
 import org.geysermc.geyser.api.network.BedrockListener;
 import org.geysermc.geyser.api.network.RemoteServer;
-import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.text.GeyserLocale;
 
@@ -133,11 +132,6 @@ public interface GeyserConfiguration {
         boolean isEnableProxyProtocol();
 
         List<String> getProxyProtocolWhitelistedIPs();
-
-        /**
-         * @return Unmodifiable list of {@link CIDRMatcher}s from {@link #getProxyProtocolWhitelistedIPs()}
-         */
-        List<CIDRMatcher> getWhitelistedIPsMatchers();
     }
 
     interface IRemoteConfiguration extends RemoteServer {
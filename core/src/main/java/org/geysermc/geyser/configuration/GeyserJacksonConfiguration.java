@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.configuration;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParser;
@@ -37,18 +36,14 @@ import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.network.AuthType;
-import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.text.AsteriskSerializer;
 import org.geysermc.geyser.text.GeyserLocale;
-import org.geysermc.geyser.util.WebUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -225,34 +220,6 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
         @Getter
         @JsonProperty("proxy-protocol-whitelisted-ips")
         private List<String> proxyProtocolWhitelistedIPs = Collections.emptyList();
-
-        @JsonIgnore
-        private List<CIDRMatcher> whitelistedIPsMatchers = null;
-
-        @Override
-        public List<CIDRMatcher> getWhitelistedIPsMatchers() {
-            // Effective Java, Third Edition; Item 83: Use lazy initialization judiciously
-            List<CIDRMatcher> matchers = this.whitelistedIPsMatchers;
-            if (matchers == null) {
-                synchronized (this) {
-                    // Check if proxyProtocolWhitelistedIPs contains URLs we need to fetch and parse by line
-                    List<String> whitelistedCIDRs = new ArrayList<>();
-                    for (String ip: proxyProtocolWhitelistedIPs) {
-                        if (!ip.startsWith("http")) {
-                            whitelistedCIDRs.add(ip);
-                            continue; 
-                        }
-
-                        WebUtils.getLineStream(ip).forEach(whitelistedCIDRs::add);
-                    }
-
-                    this.whitelistedIPsMatchers = matchers = whitelistedCIDRs.stream()
-                            .map(CIDRMatcher::new)
-                            .collect(Collectors.toList());
-                }
-            }
-            return Collections.unmodifiableList(matchers);
-        }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -41,11 +41,14 @@ import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.GeyserApi;
 import org.geysermc.geyser.api.extension.Extension;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.metrics.PacketMetrics;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.skin.SkinProvider;
 import org.geysermc.geyser.text.AsteriskSerializer;
 import org.geysermc.geyser.util.CpuUtils;
 import org.geysermc.geyser.util.FileUtils;
+import org.geysermc.geyser.util.StartupProfiler;
 import org.geysermc.geyser.util.WebUtils;
 
 import java.io.File;
@@ -80,6 +83,9 @@ public class DumpInfo {
     private final BootstrapDumpInfo bootstrapInfo;
     private final FlagsInfo flagsInfo;
     private final List<ExtensionInfo> extensionInfo;
+    private final PacketMetricsInfo packetMetricsInfo;
+    private final List<SkinProvider.TextureCacheStats> skinCacheInfo;
+    private final List<StartupProfiler.PhaseTiming> startupTimings;
 
     public DumpInfo(GeyserImpl geyser, boolean addLog) {
         this.versionInfo = new VersionInfo();
@@ -139,6 +145,10 @@ public class DumpInfo {
         for (Extension extension : GeyserApi.api().extensionManager().extensions()) {
             this.extensionInfo.add(new ExtensionInfo(extension.isEnabled(), extension.name(), extension.description().version(), extension.description().apiVersion(), extension.description().main(), extension.description().authors()));
         }
+
+        this.packetMetricsInfo = new PacketMetricsInfo();
+        this.skinCacheInfo = SkinProvider.cacheStats();
+        this.startupTimings = geyser.getStartupTimings();
     }
 
     @Getter
@@ -279,6 +289,19 @@ public class DumpInfo {
         }
     }
 
+    /**
+     * The packet types Geyser spent the most time translating, plus how backed up the player event loops are
+     */
+    public record PacketMetricsInfo(boolean enabled, long collectingSinceMillis, List<Integer> playerEventLoopQueueDepths,
+                                    List<PacketMetrics.PacketSummary> packets) {
+        private static final int MAX_PACKETS = 30;
+
+        public PacketMetricsInfo() {
+            this(PacketMetrics.ENABLED, PacketMetrics.collectingSince(), PacketMetrics.playerEventLoopQueueDepths(),
+                PacketMetrics.summaries().stream().limit(MAX_PACKETS).toList());
+        }
+    }
+
     public record ExtensionInfo(boolean enabled, String name, String version, String apiVersion, String main, List<String> authors) {
     }
 
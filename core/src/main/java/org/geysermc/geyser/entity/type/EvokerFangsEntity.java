@@ -55,8 +55,14 @@ public class EvokerFangsEntity extends Entity implements Tickable {
         }
     }
 
+    @Override
+    public boolean isTickIdle() {
+        return !attackStarted || limitedLife <= 0;
+    }
+
     public void setAttackStarted() {
         this.attackStarted = true;
+        session.getEntityCache().wakeTickable(this);
         if (!silent) {
             // Play the chomp sound
             PlaySoundPacket packet = new PlaySoundPacket();
@@ -56,6 +56,7 @@ public class TNTEntity extends Entity implements Tickable {
         currentTick = entityMetadata.getPrimitiveValue();
         setFlag(EntityFlag.IGNITED, true);
         dirtyMetadata.put(EntityDataTypes.FUSE_TIME, currentTick);
+        session.getEntityCache().wakeTickable(this);
     }
 
     @Override
@@ -75,4 +76,9 @@ public class TNTEntity extends Entity implements Tickable {
         }
         currentTick--;
     }
+
+    @Override
+    public boolean isTickIdle() {
+        return currentTick == 0;
+    }
 }
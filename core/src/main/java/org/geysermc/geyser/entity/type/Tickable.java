@@ -43,4 +43,15 @@ public interface Tickable {
      * game tick loop isn't frozen.
      */
     void tick();
+
+    /**
+     * Entities that only have work to do some of the time may return true here once they are done.
+     * They are then no longer ticked at all, until something gives them work again and they are woken up
+     * with {@link org.geysermc.geyser.session.cache.EntityCache#wakeTickable(Entity)}.
+     *
+     * @return true if neither {@link #drawTick()} nor {@link #tick()} currently have anything to do
+     */
+    default boolean isTickIdle() {
+        return false;
+    }
 }
@@ -94,6 +94,7 @@ public class SnifferEntity extends AnimalEntity implements Tickable {
 
         if (getFlag(EntityFlag.DIGGING)) {
             digTicks = DIG_END;
+            session.getEntityCache().wakeTickable(this);
         } else {
             // Handles situations where the DIGGING state is exited earlier than expected,
             // such as hitting the sniffer or joining the game while it is digging
@@ -125,4 +126,9 @@ public class SnifferEntity extends AnimalEntity implements Tickable {
             }
         }
     }
+
+    @Override
+    public boolean isTickIdle() {
+        return digTicks <= 0;
+    }
 }
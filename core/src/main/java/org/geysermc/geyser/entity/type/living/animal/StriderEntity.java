@@ -164,6 +164,12 @@ public class StriderEntity extends AnimalEntity implements Tickable, ClientVehic
         }
     }
 
+    @Override
+    public boolean isTickIdle() {
+        // Woken up again when passengers change
+        return passengers.isEmpty();
+    }
+
     @Override
     public VehicleComponent<?> getVehicleComponent() {
         return vehicleComponent;
@@ -123,6 +123,12 @@ public class PigEntity extends TemperatureVariantAnimal implements Tickable, Cli
         }
     }
 
+    @Override
+    public boolean isTickIdle() {
+        // Woken up again when passengers change
+        return passengers.isEmpty();
+    }
+
     @Override
     public VehicleComponent<?> getVehicleComponent() {
         return vehicleComponent;
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.event;
+
+import lombok.Getter;
+import org.geysermc.event.Event;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.event.EventRegistrar;
+import org.geysermc.geyser.api.extension.Extension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * How long a single event subscriber takes, so slow listeners of extensions can be found.
+ * A warning is logged when a single call takes longer than {@code -DGeyser.SlowEventListenerMillis} (50 by default),
+ * at most once a minute per subscriber.
+ */
+public final class EventListenerTimings {
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("Geyser.SlowEventListenerMillis", 50));
+    private static final long WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    @Getter
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile long lastWarningNanos;
+
+    EventListenerTimings(EventRegistrar owner, Class<? extends Event> eventClass) {
+        String ownerName = owner instanceof Extension extension ? extension.name() : owner.getClass().getSimpleName();
+        this.name = ownerName + "/" + eventClass.getSimpleName();
+    }
+
+    <E> Consumer<E> wrap(Consumer<E> handler) {
+        return event -> {
+            long start = System.nanoTime();
+            try {
+                handler.accept(event);
+            } finally {
+                record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    <H, E> BiConsumer<H, E> wrap(BiConsumer<H, E> handler) {
+        return (instance, event) -> {
+            long start = System.nanoTime();
+            try {
+                handler.accept(instance, event);
+            } finally {
+                record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private void record(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+
+        if (nanos >= SLOW_NANOS) {
+            long now = System.nanoTime();
+            long lastWarning = this.lastWarningNanos;
+            if (lastWarning == 0 || now - lastWarning >= WARNING_INTERVAL_NANOS) {
+                this.lastWarningNanos = now;
+                GeyserImpl.getInstance().getLogger().warning("Event listener " + name + " took "
+                    + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms. This slows down the thread the event was fired on.");
+            }
+        }
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+}
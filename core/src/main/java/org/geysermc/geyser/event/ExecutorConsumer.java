@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.event;
+
+import org.geysermc.geyser.GeyserImpl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * An event handler that runs on its own executor, instead of the thread firing the event.
+ * Its timings measure the handler itself, not the hand-off to the executor.
+ */
+record ExecutorConsumer<E>(Consumer<E> handler, Executor executor, EventListenerTimings timings) implements Consumer<E> {
+
+    ExecutorConsumer(Consumer<E> handler, Executor executor, EventListenerTimings timings) {
+        this.handler = timings.wrap(handler);
+        this.executor = executor;
+        this.timings = timings;
+    }
+
+    @Override
+    public void accept(E event) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> handler.accept(event), executor);
+        future.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                GeyserImpl.getInstance().getLogger().error("Event listener " + timings.getName() + " threw an exception", throwable);
+            }
+        });
+        GeyserEventBus.trackAsyncHandler(future);
+    }
+}
@@ -25,23 +25,49 @@
 
 package org.geysermc.geyser.event;
 
+import io.netty.util.concurrent.DefaultThreadFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.event.Event;
+import org.geysermc.event.FireResult;
 import org.geysermc.event.PostOrder;
 import org.geysermc.event.bus.impl.OwnedEventBusImpl;
 import org.geysermc.event.subscribe.OwnedSubscriber;
 import org.geysermc.event.subscribe.Subscribe;
+import org.geysermc.event.subscribe.Subscriber;
 import org.geysermc.geyser.api.event.EventBus;
 import org.geysermc.geyser.api.event.EventRegistrar;
 import org.geysermc.geyser.api.event.EventSubscriber;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 @SuppressWarnings("unchecked")
 public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Event, EventSubscriber<EventRegistrar, ? extends Event>>
         implements EventBus<EventRegistrar> {
+    private static final Executor ASYNC_EXECUTOR = createAsyncExecutor();
+    /**
+     * Collects handlers that were handed off to their own executor during {@link #fireAsync(Event)},
+     * so the returned future only completes once they are done as well
+     */
+    private static final ThreadLocal<List<CompletableFuture<?>>> ASYNC_HANDLERS = new ThreadLocal<>();
+
+    /**
+     * Weakly held, so subscribers drop out once they are unsubscribed
+     */
+    private final Set<GeyserEventSubscriber<?, ?>> subscriptions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     @Override
     protected <L, T extends Event, B extends OwnedSubscriber<EventRegistrar, T>> B makeSubscription(
             @NonNull EventRegistrar owner,
@@ -49,9 +75,9 @@ public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Even
             @NonNull Subscribe subscribe,
             @NonNull L listener,
             @NonNull BiConsumer<L, T> handler) {
-        return (B) new GeyserEventSubscriber<>(
+        return (B) track(new GeyserEventSubscriber<>(
                 owner, eventClass, subscribe.postOrder(), subscribe.ignoreCancelled(), listener, handler
-        );
+        ));
     }
 
     @Override
@@ -60,7 +86,7 @@ public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Even
             @NonNull Class<T> eventClass,
             @NonNull Consumer<T> handler,
             @NonNull PostOrder postOrder) {
-        return (B) new GeyserEventSubscriber<>(owner, eventClass, handler, postOrder);
+        return (B) track(new GeyserEventSubscriber<>(owner, eventClass, handler, postOrder));
     }
 
     @Override
@@ -68,4 +94,67 @@ public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Even
     public <T extends Event> Set<? extends EventSubscriber<EventRegistrar, T>> subscribers(@NonNull Class<T> eventClass) {
         return castGenericSet(super.subscribers(eventClass));
     }
+
+    @Override
+    public @NonNull CompletableFuture<FireResult> fireAsync(@NonNull Event event) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<CompletableFuture<?>> asyncHandlers = new ArrayList<>();
+            ASYNC_HANDLERS.set(asyncHandlers);
+            FireResult result;
+            try {
+                result = fire(event);
+            } finally {
+                ASYNC_HANDLERS.remove();
+            }
+            if (asyncHandlers.isEmpty()) {
+                return CompletableFuture.completedFuture(result);
+            }
+            // Failures of these handlers are logged by the handlers themselves
+            return CompletableFuture.allOf(asyncHandlers.toArray(new CompletableFuture[0])).handle((ignored, throwable) -> result);
+        }, ASYNC_EXECUTOR).thenCompose(Function.identity());
+    }
+
+    @Override
+    public <T extends Event, U extends Subscriber<T>> @NonNull U subscribe(
+            @NonNull EventRegistrar owner,
+            @NonNull Class<T> eventClass,
+            @NonNull Consumer<T> handler,
+            @NonNull Executor executor) {
+        return subscribe(owner, eventClass, new ExecutorConsumer<>(handler, executor, new EventListenerTimings(owner, eventClass)));
+    }
+
+    /**
+     * @return the timings of all current subscribers, slowest in total first
+     */
+    public List<EventListenerTimings> timings() {
+        List<EventListenerTimings> timings;
+        synchronized (subscriptions) {
+            timings = new ArrayList<>(subscriptions.size());
+            for (GeyserEventSubscriber<?, ?> subscriber : subscriptions) {
+                timings.add(subscriber.getTimings());
+            }
+        }
+        timings.sort(Comparator.comparingLong(EventListenerTimings::totalNanos).reversed());
+        return timings;
+    }
+
+    static void trackAsyncHandler(CompletableFuture<?> future) {
+        List<CompletableFuture<?>> asyncHandlers = ASYNC_HANDLERS.get();
+        if (asyncHandlers != null) {
+            asyncHandlers.add(future);
+        }
+    }
+
+    private <S extends GeyserEventSubscriber<?, ?>> S track(S subscriber) {
+        subscriptions.add(subscriber);
+        return subscriber;
+    }
+
+    private static Executor createAsyncExecutor() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DefaultThreadFactory("Geyser Async Events", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
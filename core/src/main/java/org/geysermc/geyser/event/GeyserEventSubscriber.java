@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.event;
 
+import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.event.Event;
 import org.geysermc.event.PostOrder;
@@ -37,12 +38,27 @@ import java.util.function.Consumer;
 
 public final class GeyserEventSubscriber<R extends EventRegistrar, E extends Event> extends OwnedSubscriberImpl<R, E>
         implements ExtensionEventSubscriber<E> {
+    @Getter
+    private final EventListenerTimings timings;
+
     GeyserEventSubscriber(
             @NonNull R owner,
             @NonNull Class<E> eventClass,
             @NonNull Consumer<E> handler,
             @NonNull PostOrder postOrder) {
-        super(owner, eventClass, handler, postOrder);
+        this(owner, eventClass, handler, postOrder, handler instanceof ExecutorConsumer<E> executorConsumer
+                ? executorConsumer.timings() : new EventListenerTimings(owner, eventClass));
+    }
+
+    private GeyserEventSubscriber(
+            @NonNull R owner,
+            @NonNull Class<E> eventClass,
+            @NonNull Consumer<E> handler,
+            @NonNull PostOrder postOrder,
+            @NonNull EventListenerTimings timings) {
+        // Handlers running on their own executor are timed there
+        super(owner, eventClass, handler instanceof ExecutorConsumer<E> ? handler : timings.wrap(handler), postOrder);
+        this.timings = timings;
     }
 
     <H> GeyserEventSubscriber(
@@ -52,6 +68,18 @@ public final class GeyserEventSubscriber<R extends EventRegistrar, E extends Eve
             boolean ignoreCancelled,
             @NonNull H handlerInstance,
             @NonNull BiConsumer<H, E> handler) {
-        super(owner, eventClass, postOrder, ignoreCancelled, handlerInstance, handler);
+        this(owner, eventClass, postOrder, ignoreCancelled, handlerInstance, handler, new EventListenerTimings(owner, eventClass));
+    }
+
+    private <H> GeyserEventSubscriber(
+            @NonNull R owner,
+            @NonNull Class<E> eventClass,
+            @NonNull PostOrder postOrder,
+            boolean ignoreCancelled,
+            @NonNull H handlerInstance,
+            @NonNull BiConsumer<H, E> handler,
+            @NonNull EventListenerTimings timings) {
+        super(owner, eventClass, postOrder, ignoreCancelled, handlerInstance, timings.wrap(handler));
+        this.timings = timings;
     }
 }
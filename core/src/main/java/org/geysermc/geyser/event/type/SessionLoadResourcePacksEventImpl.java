@@ -34,6 +34,7 @@ import org.cloudburstmc.protocol.bedrock.packet.ResourcePackStackPacket;
 import org.cloudburstmc.protocol.bedrock.packet.ResourcePacksInfoPacket;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.event.bedrock.SessionLoadResourcePacksEvent;
+import org.geysermc.geyser.api.pack.PathPackCodec;
 import org.geysermc.geyser.api.pack.ResourcePack;
 import org.geysermc.geyser.api.pack.ResourcePackManifest;
 import org.geysermc.geyser.api.pack.UrlPackCodec;
@@ -42,6 +43,7 @@ import org.geysermc.geyser.api.pack.option.PriorityOption;
 import org.geysermc.geyser.api.pack.option.ResourcePackOption;
 import org.geysermc.geyser.pack.GeyserResourcePack;
 import org.geysermc.geyser.pack.ResourcePackHolder;
+import org.geysermc.geyser.pack.http.ResourcePackHttpServer;
 import org.geysermc.geyser.pack.option.OptionHolder;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
@@ -235,6 +237,11 @@ public class SessionLoadResourcePacksEventImpl extends SessionLoadResourcePacksE
         if (pack.codec() instanceof UrlPackCodec urlPackCodec) {
             return urlPackCodec.url();
         }
+        // Local packs can be downloaded from our own HTTP server, if enabled; RakNet remains the fallback
+        ResourcePackHttpServer httpServer = GeyserImpl.getInstance().getResourcePackHttpServer();
+        if (httpServer != null && pack.codec() instanceof PathPackCodec pathPackCodec) {
+            return httpServer.urlFor(pathPackCodec);
+        }
         return "";
     }
 }
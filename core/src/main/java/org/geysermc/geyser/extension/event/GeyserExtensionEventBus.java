@@ -37,6 +37,8 @@ import org.geysermc.geyser.api.event.ExtensionEventBus;
 import org.geysermc.geyser.api.extension.Extension;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 public record GeyserExtensionEventBus(EventBus<EventRegistrar> eventBus, Extension extension) implements ExtensionEventBus {
@@ -57,6 +59,11 @@ public record GeyserExtensionEventBus(EventBus<EventRegistrar> eventBus, Extensi
         return eventBus.fireSilently(event);
     }
 
+    @Override
+    public @NonNull CompletableFuture<FireResult> fireAsync(@NonNull Event event) {
+        return eventBus.fireAsync(event);
+    }
+
     @Override
     public @NonNull <T extends Event> Set<? extends EventSubscriber<EventRegistrar, T>> subscribers(@NonNull Class<T> eventClass) {
         return eventBus.subscribers(eventClass);
@@ -84,6 +91,15 @@ public record GeyserExtensionEventBus(EventBus<EventRegistrar> eventBus, Extensi
         return eventBus.subscribe(extension, eventClass, consumer, postOrder);
     }
 
+    @Override
+    public <T extends Event, U extends Subscriber<T>> @NonNull U subscribe(
+            @NonNull Class<T> eventClass,
+            @NonNull Consumer<T> handler,
+            @NonNull Executor executor
+    ) {
+        return eventBus.subscribe(extension, eventClass, handler, executor);
+    }
+
     @Override
     public void unregisterAll() {
         eventBus.unregisterAll(extension);
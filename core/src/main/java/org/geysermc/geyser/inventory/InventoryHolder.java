@@ -117,7 +117,7 @@ public final class InventoryHolder<T extends Inventory> {
     public void closeInventory(boolean force) {
         this.translator.closeInventory(session, inventory, force);
         if (session.getContainerOutputFuture() != null) {
-            session.getContainerOutputFuture().cancel(true);
+            session.getContainerOutputFuture().cancel();
         }
     }
 
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.GlobalPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.SingletonPalette;
+
+import java.util.Arrays;
+
+/**
+ * A compact store of the Java block states of one chunk section, used by the chunk cache in place of a full
+ * {@link DataPalette}. A section is either a single state, a palette of up to 256 states with 1, 2, 4 or 8 bits
+ * per block, or the states themselves at 16 bits per block. Entries never span two longs, so no bits are wasted.
+ * <p>
+ * Unused palette entries sent by the server are dropped when converting, so a section that only really holds one
+ * state always ends up as a single state. As conversion is deterministic, identical sections end up with identical
+ * contents, which is what {@link SharedSectionStore} relies on to intern them.
+ */
+public final class CompactChunkSection {
+    public static final int SIZE = 4096;
+    private static final int MAX_PALETTE_BITS = 8;
+    /**
+     * Every Java block state fits in a short
+     */
+    private static final int DIRECT_BITS = 16;
+
+    /**
+     * The palette of states, or null if {@link #bits} is {@link #DIRECT_BITS}
+     */
+    private int[] palette;
+    private int paletteSize;
+    /**
+     * Packed entries, or null if this section holds a single state
+     */
+    private long[] data;
+    /**
+     * Bits per entry; 0 for a single state
+     */
+    private int bits;
+    /**
+     * Set once this section is in the {@link SharedSectionStore}, after which it must never change
+     */
+    private boolean shared;
+    private int hash;
+    /**
+     * How many cached chunks refer to this shared section. Only accessed by the store
+     */
+    int references;
+
+    private CompactChunkSection(int[] palette, int paletteSize, long[] data, int bits) {
+        this.palette = palette;
+        this.paletteSize = paletteSize;
+        this.data = data;
+        this.bits = bits;
+    }
+
+    public static CompactChunkSection single(int state) {
+        return new CompactChunkSection(new int[] {state}, 1, null, 0);
+    }
+
+    public static CompactChunkSection from(DataPalette dataPalette) {
+        Palette javaPalette = dataPalette.getPalette();
+        if (javaPalette instanceof SingletonPalette) {
+            return single(javaPalette.idToState(0));
+        }
+        BitStorage storage = dataPalette.getStorage();
+
+        // Work out the states that are actually in use, in order of first appearance
+        int[] states = new int[16];
+        int size = 0;
+        int[] remap = null;
+        Int2IntOpenHashMap globalRemap = null;
+        if (javaPalette instanceof GlobalPalette) {
+            globalRemap = new Int2IntOpenHashMap();
+            globalRemap.defaultReturnValue(-1);
+        } else {
+            remap = new int[javaPalette.size()];
+            Arrays.fill(remap, -1);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            int id = storage.get(i);
+            int existing = remap != null ? remap[id] : globalRemap.get(id);
+            if (existing != -1) {
+                continue;
+            }
+            if (size == states.length) {
+                states = Arrays.copyOf(states, size * 2);
+            }
+            if (remap != null) {
+                remap[id] = size;
+            } else {
+                globalRemap.put(id, size);
+            }
+            states[size++] = javaPalette.idToState(id);
+        }
+
+        if (size == 1) {
+            return single(states[0]);
+        }
+
+        int bits = bitsFor(size);
+        CompactChunkSection section = new CompactChunkSection(bits == DIRECT_BITS ? null : Arrays.copyOf(states, size), size, new long[dataLength(bits)], bits);
+        for (int i = 0; i < SIZE; i++) {
+            int id = storage.get(i);
+            int compactId = remap != null ? remap[id] : globalRemap.get(id);
+            section.write(i, bits == DIRECT_BITS ? states[compactId] : compactId);
+        }
+        return section;
+    }
+
+    public int get(int x, int y, int z) {
+        return get(index(x, y, z));
+    }
+
+    public int get(int index) {
+        if (bits == 0) {
+            return palette[0];
+        }
+        int value = read(index);
+        return bits == DIRECT_BITS ? value : palette[value];
+    }
+
+    /**
+     * Changes one block of this section. Shared sections must be {@link #copy() copied} first.
+     */
+    public void set(int x, int y, int z, int state) {
+        if (shared) {
+            throw new IllegalStateException("Shared chunk sections are immutable");
+        }
+        int index = index(x, y, z);
+        if (bits == DIRECT_BITS) {
+            write(index, state);
+            return;
+        }
+
+        int id = indexOf(state);
+        if (id == -1) {
+            if (paletteSize < (1 << bits)) {
+                id = addToPalette(state);
+            } else if (bits < MAX_PALETTE_BITS) {
+                resize(bits == 0 ? 1 : bits << 1);
+                id = addToPalette(state);
+            } else {
+                toDirect();
+                write(index, state);
+                return;
+            }
+        } else if (bits == 0) {
+            // Setting the one state this section already consists of
+            return;
+        }
+        write(index, id);
+    }
+
+    /**
+     * @return true if every block of this section is the given state
+     */
+    public boolean isSingle(int state) {
+        return bits == 0 && palette[0] == state;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * @return a private, mutable copy of this section
+     */
+    public CompactChunkSection copy() {
+        return new CompactChunkSection(palette == null ? null : palette.clone(), paletteSize, data == null ? null : data.clone(), bits);
+    }
+
+    void markShared() {
+        this.hash = hashCode();
+        this.shared = true;
+    }
+
+    /**
+     * An estimate of the heap used by this section, in bytes.
+     */
+    public long memoryUsage() {
+        long size = 32; // Object header and fields
+        if (palette != null) {
+            size += align(16 + 4L * palette.length);
+        }
+        if (data != null) {
+            size += 16 + 8L * data.length;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactChunkSection that)) {
+            return false;
+        }
+        return bits == that.bits && paletteSize == that.paletteSize
+            && (palette == null || Arrays.equals(palette, 0, paletteSize, that.palette, 0, paletteSize))
+            && Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        if (shared) {
+            return hash;
+        }
+        int result = bits;
+        for (int i = 0; i < paletteSize; i++) {
+            result = 31 * result + palette[i];
+        }
+        return 31 * result + Arrays.hashCode(data);
+    }
+
+    private int indexOf(int state) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == state) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int addToPalette(int state) {
+        if (paletteSize == palette.length) {
+            palette = Arrays.copyOf(palette, Math.min(1 << bits, paletteSize * 2));
+        }
+        palette[paletteSize] = state;
+        return paletteSize++;
+    }
+
+    private void resize(int newBits) {
+        long[] oldData = this.data;
+        int oldBits = this.bits;
+        this.data = new long[dataLength(newBits)];
+        this.bits = newBits;
+        if (oldBits != 0) {
+            for (int i = 0; i < SIZE; i++) {
+                write(i, read(oldData, oldBits, i));
+            }
+        }
+        // A single state section is all zeroes, which is already what the new data holds
+    }
+
+    private void toDirect() {
+        long[] oldData = this.data;
+        int oldBits = this.bits;
+        this.data = new long[dataLength(DIRECT_BITS)];
+        this.bits = DIRECT_BITS;
+        for (int i = 0; i < SIZE; i++) {
+            write(i, palette[read(oldData, oldBits, i)]);
+        }
+        this.palette = null;
+        this.paletteSize = 0;
+    }
+
+    private int read(int index) {
+        return read(data, bits, index);
+    }
+
+    private static int read(long[] data, int bits, int index) {
+        int shift = Integer.numberOfTrailingZeros(Long.SIZE / bits);
+        int offset = (index & ((1 << shift) - 1)) * bits;
+        return (int) (data[index >>> shift] >>> offset) & ((1 << bits) - 1);
+    }
+
+    private void write(int index, int value) {
+        int shift = Integer.numberOfTrailingZeros(Long.SIZE / bits);
+        int offset = (index & ((1 << shift) - 1)) * bits;
+        long mask = ((1L << bits) - 1) << offset;
+        int word = index >>> shift;
+        data[word] = (data[word] & ~mask) | (((long) value << offset) & mask);
+    }
+
+    private static int bitsFor(int paletteSize) {
+        if (paletteSize > 1 << MAX_PALETTE_BITS) {
+            return DIRECT_BITS;
+        }
+        int bits = 1;
+        while (paletteSize > 1 << bits) {
+            bits <<= 1;
+        }
+        return bits;
+    }
+
+    private static int dataLength(int bits) {
+        return SIZE * bits / Long.SIZE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Same order as Java Edition: y, then z, then x.
+     */
+    private static int index(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+}
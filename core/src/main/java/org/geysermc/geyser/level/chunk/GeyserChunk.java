@@ -25,14 +25,47 @@
 
 package org.geysermc.geyser.level.chunk;
 
+import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 
 /**
  * Acts as a lightweight chunk class that doesn't store biomes, heightmaps or block entities.
+ * Sections that are entirely air are null, and sections may be {@link SharedSectionStore shared} with other sessions.
  */
-public record GeyserChunk(DataPalette[] sections) {
+public record GeyserChunk(CompactChunkSection[] sections) {
 
-    public static GeyserChunk from(DataPalette[] sections) {
+    public static GeyserChunk from(DataPalette[] palettes) {
+        CompactChunkSection[] sections = new CompactChunkSection[palettes.length];
+        for (int i = 0; i < palettes.length; i++) {
+            CompactChunkSection section = CompactChunkSection.from(palettes[i]);
+            if (!section.isSingle(Block.JAVA_AIR_ID)) {
+                sections[i] = SharedSectionStore.ENABLED ? SharedSectionStore.intern(section) : section;
+            }
+        }
         return new GeyserChunk(sections);
     }
+
+    /**
+     * Releases any shared sections of this chunk, once it is no longer cached.
+     */
+    public void release() {
+        for (CompactChunkSection section : sections) {
+            if (section != null && section.isShared()) {
+                SharedSectionStore.release(section);
+            }
+        }
+    }
+
+    /**
+     * An estimate of the heap used by this chunk, in bytes. Shared sections are accounted for by the store instead.
+     */
+    public long memoryUsage() {
+        long size = 16 + 16 + 4L * sections.length; // Record and section array
+        for (CompactChunkSection section : sections) {
+            if (section != null && !section.isShared()) {
+                size += section.memoryUsage();
+            }
+        }
+        return size;
+    }
 }
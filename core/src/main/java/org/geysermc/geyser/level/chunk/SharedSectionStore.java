@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A content-addressed store of chunk sections shared between every session's chunk cache, so that players in the
+ * same world hold one copy of identical terrain instead of one each. Sections are reference counted by the chunks
+ * that use them and dropped once the last one is removed; sessions copy a section before changing a block in it.
+ * <p>
+ * Enable with {@code -DGeyser.SharedChunkSections=true}. Only used where Geyser keeps its own chunk cache.
+ */
+public final class SharedSectionStore {
+    public static final boolean ENABLED = Boolean.getBoolean("Geyser.SharedChunkSections");
+
+    private static final Map<CompactChunkSection, CompactChunkSection> SECTIONS = new ConcurrentHashMap<>();
+    private static final LongAdder MEMORY_USAGE = new LongAdder();
+
+    private SharedSectionStore() {
+    }
+
+    /**
+     * @return the shared section with the same contents, which may be the given section itself
+     */
+    public static CompactChunkSection intern(CompactChunkSection section) {
+        return SECTIONS.compute(section, (key, existing) -> {
+            if (existing == null) {
+                section.markShared();
+                MEMORY_USAGE.add(section.memoryUsage());
+                existing = section;
+            }
+            existing.references++;
+            return existing;
+        });
+    }
+
+    /**
+     * Called when a chunk no longer refers to this shared section.
+     */
+    public static void release(CompactChunkSection section) {
+        SECTIONS.computeIfPresent(section, (key, existing) -> {
+            if (--existing.references == 0) {
+                MEMORY_USAGE.add(-existing.memoryUsage());
+                return null;
+            }
+            return existing;
+        });
+    }
+
+    public static int size() {
+        return SECTIONS.size();
+    }
+
+    /**
+     * @return the estimated heap used by all shared sections, in bytes
+     */
+    public static long memoryUsage() {
+        return MEMORY_USAGE.sum();
+    }
+}
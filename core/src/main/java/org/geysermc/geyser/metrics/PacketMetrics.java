@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.metrics;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.network.netty.GeyserServer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Always-on, low-overhead counters for packet translation and the Bedrock connection.
+ * Recording only touches striped counters of the packet's {@link PacketStats}, so it is safe from any thread.
+ */
+public final class PacketMetrics {
+    /**
+     * Can be used to turn off recording completely, e.g. when profiling Geyser itself.
+     */
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("Geyser.PacketMetrics", "true"));
+
+    private static final Map<Class<?>, PacketStats> ALL_STATS = new ConcurrentHashMap<>();
+    private static final ClassValue<PacketStats> STATS = new ClassValue<>() {
+        @Override
+        protected PacketStats computeValue(Class<?> type) {
+            return ALL_STATS.computeIfAbsent(type, PacketStats::new);
+        }
+    };
+
+    private static volatile long collectingSince = System.currentTimeMillis();
+
+    private PacketMetrics() {
+    }
+
+    public static PacketStats stats(Class<?> packetClass) {
+        return STATS.get(packetClass);
+    }
+
+    /**
+     * Clears all recorded values. Counters are not removed, so cached {@link PacketStats} references stay valid.
+     */
+    public static void reset() {
+        for (PacketStats stats : ALL_STATS.values()) {
+            stats.reset();
+        }
+        collectingSince = System.currentTimeMillis();
+    }
+
+    public static long collectingSince() {
+        return collectingSince;
+    }
+
+    /**
+     * @return all packet types that were seen at least once, sorted by the total time spent translating them
+     */
+    public static List<PacketSummary> summaries() {
+        List<PacketSummary> summaries = new ArrayList<>();
+        for (PacketStats stats : ALL_STATS.values()) {
+            if (!stats.isEmpty()) {
+                summaries.add(PacketSummary.of(stats));
+            }
+        }
+        summaries.sort(Comparator.comparingLong(PacketSummary::totalNanos).reversed()
+            .thenComparing(Comparator.comparingLong(PacketSummary::upstreamBytesOut).reversed()));
+        return summaries;
+    }
+
+    /**
+     * @return the amount of pending tasks of each player event loop, or an empty list if Geyser has not started
+     */
+    public static List<Integer> playerEventLoopQueueDepths() {
+        GeyserServer server = GeyserImpl.getInstance().getGeyserServer();
+        return server == null ? List.of() : queueDepths(server.getPlayerGroup());
+    }
+
+    private static List<Integer> queueDepths(@Nullable EventLoopGroup group) {
+        if (group == null) {
+            return List.of();
+        }
+        List<Integer> depths = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            if (executor instanceof SingleThreadEventExecutor singleThreadExecutor) {
+                depths.add(singleThreadExecutor.pendingTasks());
+            }
+        }
+        return depths;
+    }
+
+    public record PacketSummary(String packet, long translations, long failures, long totalNanos,
+                                long meanNanos, long p50Nanos, long p99Nanos, long maxNanos,
+                                long upstreamPacketsOut, long upstreamBytesOut,
+                                long upstreamPacketsIn, long upstreamBytesIn) {
+
+        static PacketSummary of(PacketStats stats) {
+            LatencyHistogram.Snapshot latency = stats.getLatency().snapshot();
+            return new PacketSummary(stats.getPacketClass().getSimpleName(), stats.getTranslations().sum(), stats.getFailures().sum(),
+                latency.totalNanos(), latency.mean(), latency.percentile(50), latency.percentile(99), latency.percentile(100),
+                stats.getUpstreamPacketsOut().sum(), stats.getUpstreamBytesOut().sum(),
+                stats.getUpstreamPacketsIn().sum(), stats.getUpstreamBytesIn().sum());
+        }
+
+        public double totalMillis() {
+            return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for a single packet class. Instances are shared between all sessions.
+ */
+@Getter
+public final class PacketStats {
+    private final Class<?> packetClass;
+    private final LongAdder translations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    /**
+     * Encoded size of packets of this type sent to Bedrock clients
+     */
+    private final LongAdder upstreamBytesOut = new LongAdder();
+    private final LongAdder upstreamPacketsOut = new LongAdder();
+    /**
+     * Encoded size of packets of this type received from Bedrock clients
+     */
+    private final LongAdder upstreamBytesIn = new LongAdder();
+    private final LongAdder upstreamPacketsIn = new LongAdder();
+
+    PacketStats(Class<?> packetClass) {
+        this.packetClass = packetClass;
+    }
+
+    public void recordTranslation(long nanos, boolean failed) {
+        translations.increment();
+        latency.record(nanos);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    public void recordUpstreamOut(int bytes) {
+        upstreamPacketsOut.increment();
+        upstreamBytesOut.add(bytes);
+    }
+
+    public void recordUpstreamIn(int bytes) {
+        upstreamPacketsIn.increment();
+        upstreamBytesIn.add(bytes);
+    }
+
+    public boolean isEmpty() {
+        return translations.sum() == 0 && upstreamPacketsOut.sum() == 0 && upstreamPacketsIn.sum() == 0;
+    }
+
+    void reset() {
+        translations.reset();
+        failures.reset();
+        latency.reset();
+        upstreamBytesOut.reset();
+        upstreamPacketsOut.reset();
+        upstreamBytesIn.reset();
+        upstreamPacketsIn.reset();
+    }
+}
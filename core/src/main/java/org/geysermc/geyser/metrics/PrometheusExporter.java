@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.GeyserLogger;
+import org.geysermc.geyser.level.chunk.SharedSectionStore;
+import org.geysermc.geyser.network.netty.GeyserServer;
+import org.geysermc.geyser.network.netty.handler.ConnectionRequestLimiter;
+import org.geysermc.geyser.session.cache.ChunkCache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Serves {@link PacketMetrics}, along with connection, chunk cache and session statistics, in the Prometheus text exposition format.
+ * The per-packet series are left out when packet metrics are disabled with {@code -DGeyser.PacketMetrics=false}.
+ * Disabled unless {@code -DGeyser.MetricsPort} is set; binds to the loopback address unless {@code -DGeyser.MetricsAddress} is given.
+ */
+public final class PrometheusExporter {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+
+    private PrometheusExporter(HttpServer server) {
+        this.server = server;
+    }
+
+    public static @Nullable PrometheusExporter startIfEnabled(GeyserLogger logger) {
+        Integer port = Integer.getInteger("Geyser.MetricsPort");
+        if (port == null || port <= 0) {
+            return null;
+        }
+        String address = System.getProperty("Geyser.MetricsAddress", "127.0.0.1");
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(address, port), 0);
+            server.createContext("/metrics", PrometheusExporter::handle);
+            // The default executor runs requests on the accepting thread, which is plenty for a scrape every few seconds
+            server.setExecutor(null);
+            server.start();
+            logger.info("Serving Geyser metrics on http://" + address + ":" + port + "/metrics");
+            return new PrometheusExporter(server);
+        } catch (IOException | NoClassDefFoundError e) {
+            // jdk.httpserver may be missing on trimmed-down runtimes
+            logger.error("Could not start the metrics endpoint on " + address + ":" + port, e);
+            return null;
+        }
+    }
+
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = write().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    static String write() {
+        StringBuilder builder = new StringBuilder(8192);
+        if (PacketMetrics.ENABLED) {
+            writePacketSeries(builder);
+        }
+
+        header(builder, "geyser_player_event_loop_pending_tasks", "gauge", "Pending tasks per player event loop");
+        List<Integer> depths = PacketMetrics.playerEventLoopQueueDepths();
+        for (int i = 0; i < depths.size(); i++) {
+            builder.append("geyser_player_event_loop_pending_tasks{loop=\"").append(i).append("\"} ").append(depths.get(i)).append('\n');
+        }
+
+        GeyserServer server = GeyserImpl.getInstance().getGeyserServer();
+        if (server != null) {
+            ConnectionRequestLimiter limiter = server.getConnectionRequestLimiter();
+            header(builder, "geyser_connection_requests_total", "counter", "RakNet open connection requests, by admission result");
+            builder.append("geyser_connection_requests_total{result=\"admitted\"} ").append(limiter.getAdmitted().sum()).append('\n');
+            builder.append("geyser_connection_requests_total{result=\"dropped_subnet\"} ").append(limiter.getDroppedBySubnet().sum()).append('\n');
+            builder.append("geyser_connection_requests_total{result=\"dropped_global\"} ").append(limiter.getDroppedGlobally().sum()).append('\n');
+        }
+
+        header(builder, "geyser_chunk_cache_bytes", "gauge", "Estimated heap used by cached chunks, across all sessions");
+        builder.append("geyser_chunk_cache_bytes ").append(ChunkCache.globalMemoryUsage()).append('\n');
+        header(builder, "geyser_chunk_cache_chunks", "gauge", "Cached chunks, across all sessions");
+        builder.append("geyser_chunk_cache_chunks ").append(ChunkCache.globalChunkCount()).append('\n');
+        header(builder, "geyser_chunk_cache_evictions_total", "counter", "Chunks evicted from session chunk caches to stay within budget");
+        builder.append("geyser_chunk_cache_evictions_total ").append(ChunkCache.globalEvictions()).append('\n');
+        if (SharedSectionStore.ENABLED) {
+            header(builder, "geyser_shared_chunk_sections", "gauge", "Chunk sections shared between sessions");
+            builder.append("geyser_shared_chunk_sections ").append(SharedSectionStore.size()).append('\n');
+            header(builder, "geyser_shared_chunk_sections_bytes", "gauge", "Estimated heap used by chunk sections shared between sessions");
+            builder.append("geyser_shared_chunk_sections_bytes ").append(SharedSectionStore.memoryUsage()).append('\n');
+        }
+
+        header(builder, "geyser_sessions", "gauge", "Connected Bedrock sessions");
+        builder.append("geyser_sessions ").append(GeyserImpl.getInstance().getSessionManager().size()).append('\n');
+        return builder.toString();
+    }
+
+    private static void writePacketSeries(StringBuilder builder) {
+        List<PacketMetrics.PacketSummary> summaries = PacketMetrics.summaries();
+
+        header(builder, "geyser_packet_translation_seconds", "summary", "Time spent translating packets, per packet type");
+        for (PacketMetrics.PacketSummary summary : summaries) {
+            if (summary.translations() == 0) {
+                continue;
+            }
+            quantile(builder, summary.packet(), "0.5", summary.p50Nanos());
+            quantile(builder, summary.packet(), "0.99", summary.p99Nanos());
+            quantile(builder, summary.packet(), "1", summary.maxNanos());
+            sample(builder, "geyser_packet_translation_seconds_sum", summary.packet(), seconds(summary.totalNanos()));
+            sample(builder, "geyser_packet_translation_seconds_count", summary.packet(), Long.toString(summary.translations()));
+        }
+
+        header(builder, "geyser_packet_translation_failures_total", "counter", "Packet translations that threw an exception");
+        for (PacketMetrics.PacketSummary summary : summaries) {
+            if (summary.failures() > 0) {
+                sample(builder, "geyser_packet_translation_failures_total", summary.packet(), Long.toString(summary.failures()));
+            }
+        }
+
+        header(builder, "geyser_upstream_sent_bytes_total", "counter", "Encoded bytes sent to Bedrock clients, per packet type");
+        for (PacketMetrics.PacketSummary summary : summaries) {
+            if (summary.upstreamPacketsOut() > 0) {
+                sample(builder, "geyser_upstream_sent_bytes_total", summary.packet(), Long.toString(summary.upstreamBytesOut()));
+            }
+        }
+
+        header(builder, "geyser_upstream_received_bytes_total", "counter", "Encoded bytes received from Bedrock clients, per packet type");
+        for (PacketMetrics.PacketSummary summary : summaries) {
+            if (summary.upstreamPacketsIn() > 0) {
+                sample(builder, "geyser_upstream_received_bytes_total", summary.packet(), Long.toString(summary.upstreamBytesIn()));
+            }
+        }
+    }
+
+    private static void header(StringBuilder builder, String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void quantile(StringBuilder builder, String packet, String quantile, long nanos) {
+        builder.append("geyser_packet_translation_seconds{packet=\"").append(packet)
+            .append("\",quantile=\"").append(quantile).append("\"} ").append(seconds(nanos)).append('\n');
+    }
+
+    private static void sample(StringBuilder builder, String name, String packet, String value) {
+        builder.append(name).append("{packet=\"").append(packet).append("\"} ").append(value).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1_000_000_000D);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * An immutable set of IPv4 and IPv6 CIDR ranges, compiled into one binary prefix trie per address family.
+ * Matching an address walks at most 32 (or 128) nodes, regardless of how many ranges there are, and does not allocate.
+ * {@link InetAddress#getAddress()} copies the address on every call, so callers checking an address in several places
+ * should take its bytes once and use {@link #matches(byte[])}.
+ */
+public final class CIDRTrie {
+    /**
+     * Child slot value for "no range continues here". The root is never a child, so index 0 is free to use.
+     */
+    private static final int ABSENT = 0;
+    /**
+     * Child slot value for "a range ends here", so every address below this slot matches
+     */
+    private static final int COVERED = -1;
+
+    public static final CIDRTrie EMPTY = new Builder().build();
+
+    /**
+     * Two child slots per node; the children of node {@code n} are at {@code 2n} and {@code 2n + 1}
+     */
+    private final int[] ipv4;
+    private final int[] ipv6;
+    private final boolean allIpv4;
+    private final boolean allIpv6;
+    private final int size;
+
+    private CIDRTrie(Builder builder) {
+        this.ipv4 = builder.ipv4.toIntArray();
+        this.ipv6 = builder.ipv6.toIntArray();
+        this.allIpv4 = builder.allIpv4;
+        this.allIpv6 = builder.allIpv6;
+        this.size = builder.size;
+    }
+
+    public boolean matches(InetAddress address) {
+        return matches(address.getAddress());
+    }
+
+    /**
+     * @param address the raw address as returned by {@link InetAddress#getAddress()}, 4 bytes for IPv4 and 16 bytes for IPv6
+     */
+    public boolean matches(byte[] address) {
+        if (address.length == 4) {
+            return matchesIpv4(toInt(address));
+        }
+        return matchesIpv6(address);
+    }
+
+    /**
+     * @param address a raw IPv4 address as returned by {@link InetAddress#getAddress()}
+     * @return the address as a big-endian int, so {@code 192.168.0.1} is {@code 0xC0A80001}
+     */
+    public static int toInt(byte[] address) {
+        return (address[0] & 0xFF) << 24 | (address[1] & 0xFF) << 16 | (address[2] & 0xFF) << 8 | (address[3] & 0xFF);
+    }
+
+    public boolean matchesIpv4(int address) {
+        if (allIpv4) {
+            return true;
+        }
+        int[] nodes = this.ipv4;
+        int node = 0;
+        for (int i = 31; i >= 0; i--) {
+            int child = nodes[(node << 1) | ((address >>> i) & 1)];
+            if (child == COVERED) {
+                return true;
+            }
+            if (child == ABSENT) {
+                return false;
+            }
+            node = child;
+        }
+        return false;
+    }
+
+    public boolean matchesIpv6(byte[] address) {
+        if (allIpv6) {
+            return true;
+        }
+        int[] nodes = this.ipv6;
+        int node = 0;
+        for (int i = 0; i < 128; i++) {
+            int child = nodes[(node << 1) | bit(address, i)];
+            if (child == COVERED) {
+                return true;
+            }
+            if (child == ABSENT) {
+                return false;
+            }
+            node = child;
+        }
+        return false;
+    }
+
+    /**
+     * @return the amount of ranges added to this trie, including ranges already covered by others
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int bit(byte[] address, int index) {
+        return (address[index >>> 3] >>> (7 - (index & 7))) & 1;
+    }
+
+    public static final class Builder {
+        // Start with the root node and its two empty child slots
+        private final IntArrayList ipv4 = IntArrayList.of(ABSENT, ABSENT);
+        private final IntArrayList ipv6 = IntArrayList.of(ABSENT, ABSENT);
+        private boolean allIpv4;
+        private boolean allIpv6;
+        private int size;
+
+        /**
+         * Adds a range in CIDR notation, or a single address if no prefix length is given.
+         * Host bits past the prefix length are ignored.
+         *
+         * @throws IllegalArgumentException if the range could not be parsed
+         */
+        public Builder add(String cidr) throws IllegalArgumentException {
+            String[] split = cidr.trim().split("/", 2);
+            if (split[0].isEmpty()) {
+                throw new IllegalArgumentException("Missing address in " + cidr);
+            }
+
+            byte[] address;
+            try {
+                address = InetAddress.getByName(split[0]).getAddress();
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Invalid address in " + cidr, e);
+            }
+
+            int maxBits = address.length * 8;
+            int prefixLength;
+            try {
+                prefixLength = split.length == 2 ? Integer.parseInt(split[1].trim()) : maxBits;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid prefix length in " + cidr, e);
+            }
+            if (prefixLength < 0 || prefixLength > maxBits) {
+                throw new IllegalArgumentException("Prefix length out of range in " + cidr);
+            }
+
+            size++;
+            boolean ipv4 = address.length == 4;
+            if (prefixLength == 0) {
+                if (ipv4) {
+                    allIpv4 = true;
+                } else {
+                    allIpv6 = true;
+                }
+                return this;
+            }
+            insert(ipv4 ? this.ipv4 : this.ipv6, address, prefixLength);
+            return this;
+        }
+
+        private static void insert(IntArrayList nodes, byte[] address, int prefixLength) {
+            int node = 0;
+            for (int i = 0; i < prefixLength; i++) {
+                int slot = (node << 1) | bit(address, i);
+                int child = nodes.getInt(slot);
+                if (child == COVERED) {
+                    // A shorter range already covers this one
+                    return;
+                }
+                if (i == prefixLength - 1) {
+                    // Any longer ranges below are now redundant; their nodes are simply left unreachable
+                    nodes.set(slot, COVERED);
+                    return;
+                }
+                if (child == ABSENT) {
+                    child = nodes.size() >> 1;
+                    nodes.add(ABSENT);
+                    nodes.add(ABSENT);
+                    nodes.set(slot, child);
+                }
+                node = child;
+            }
+        }
+
+        public CIDRTrie build() {
+            return new CIDRTrie(this);
+        }
+    }
+}
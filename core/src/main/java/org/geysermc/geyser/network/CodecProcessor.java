@@ -71,6 +71,7 @@ import org.cloudburstmc.protocol.bedrock.packet.PhotoInfoRequestPacket;
 import org.cloudburstmc.protocol.bedrock.packet.PhotoTransferPacket;
 import org.cloudburstmc.protocol.bedrock.packet.PlayerHotbarPacket;
 import org.cloudburstmc.protocol.bedrock.packet.PlayerInputPacket;
+import org.cloudburstmc.protocol.bedrock.packet.PlayerListPacket;
 import org.cloudburstmc.protocol.bedrock.packet.PlayerSkinPacket;
 import org.cloudburstmc.protocol.bedrock.packet.PurchaseReceiptPacket;
 import org.cloudburstmc.protocol.bedrock.packet.RefreshEntitlementsPacket;
@@ -84,6 +85,7 @@ import org.cloudburstmc.protocol.bedrock.packet.SimpleEventPacket;
 import org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket;
 import org.cloudburstmc.protocol.bedrock.packet.SubClientLoginPacket;
 import org.cloudburstmc.protocol.common.util.VarInts;
+import org.geysermc.geyser.skin.EncodedSkinCache;
 
 /**
  * Processes the Bedrock codec to remove or modify unused or unsafe packets and fields.
@@ -196,11 +198,33 @@ class CodecProcessor {
      * Serializer that does nothing when trying to deserialize PlayerSkinPacket since it is not used from the client.
      */
     private static final BedrockPacketSerializer<PlayerSkinPacket> PLAYER_SKIN_SERIALIZER = new PlayerSkinSerializer_v390() {
+        @Override
+        public void serialize(ByteBuf buffer, BedrockCodecHelper helper, PlayerSkinPacket packet) {
+            super.serialize(buffer, EncodedSkinCache.wrap(helper), packet);
+        }
+
         @Override
         public void deserialize(ByteBuf buffer, BedrockCodecHelper helper, PlayerSkinPacket packet) {
         }
     };
 
+    /**
+     * Wraps a serializer so that skins shared between players are only encoded once, see {@link EncodedSkinCache}.
+     */
+    private static <T extends BedrockPacket> BedrockPacketSerializer<T> withEncodedSkins(BedrockPacketSerializer<T> serializer) {
+        return new BedrockPacketSerializer<>() {
+            @Override
+            public void serialize(ByteBuf buffer, BedrockCodecHelper helper, T packet) {
+                serializer.serialize(buffer, EncodedSkinCache.wrap(helper), packet);
+            }
+
+            @Override
+            public void deserialize(ByteBuf buffer, BedrockCodecHelper helper, T packet) {
+                serializer.deserialize(buffer, helper, packet);
+            }
+        };
+    }
+
     /**
      * Serializer that does nothing when trying to deserialize SetEntityDataPacket since it is not used from the client.
      */
@@ -284,6 +308,7 @@ class CodecProcessor {
             .updateSerializer(MobArmorEquipmentPacket.class, MOB_ARMOR_EQUIPMENT_SERIALIZER)
             .updateSerializer(PlayerHotbarPacket.class, PLAYER_HOTBAR_SERIALIZER)
             .updateSerializer(PlayerSkinPacket.class, PLAYER_SKIN_SERIALIZER)
+            .updateSerializer(PlayerListPacket.class, withEncodedSkins(codec.getPacketDefinition(PlayerListPacket.class).getSerializer()))
             .updateSerializer(SetEntityDataPacket.class, SET_ENTITY_DATA_SERIALIZER)
             .updateSerializer(SetEntityMotionPacket.class, SET_ENTITY_MOTION_SERIALIZER)
             .updateSerializer(SetEntityLinkPacket.class, SET_ENTITY_LINK_SERIALIZER)
@@ -27,6 +27,8 @@ package org.geysermc.geyser.network;
 
 import io.netty.channel.Channel;
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.cloudburstmc.protocol.bedrock.BedrockPeer;
@@ -35,16 +37,26 @@ import org.cloudburstmc.protocol.bedrock.netty.codec.packet.BedrockPacketCodec;
 import org.cloudburstmc.protocol.bedrock.netty.initializer.BedrockServerInitializer;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.tick.SessionTickDispatcher;
 
 import java.net.InetSocketAddress;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class GeyserServerInitializer extends BedrockServerInitializer {
     private final GeyserImpl geyser;
     // There is a constructor that doesn't require inputting threads, but older Netty versions don't have it
     private final DefaultEventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(0, new DefaultThreadFactory("Geyser player thread"));
+    /**
+     * One tick dispatcher per player thread, so all sessions on a thread share one timer
+     */
+    private final Map<EventExecutor, SessionTickDispatcher> tickDispatchers = new IdentityHashMap<>();
 
     public GeyserServerInitializer(GeyserImpl geyser) {
         this.geyser = geyser;
+        for (EventExecutor executor : this.eventLoopGroup) {
+            this.tickDispatchers.put(executor, new SessionTickDispatcher((EventLoop) executor));
+        }
     }
 
     public DefaultEventLoopGroup getEventLoopGroup() {
@@ -62,10 +74,11 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
             }
 
             bedrockServerSession.setLogging(true);
-            GeyserSession session = new GeyserSession(this.geyser, bedrockServerSession, this.eventLoopGroup.next());
+            GeyserSession session = new GeyserSession(this.geyser, bedrockServerSession, this.tickDispatchers.get(this.eventLoopGroup.next()));
 
             Channel channel = bedrockServerSession.getPeer().getChannel();
             channel.pipeline().addAfter(BedrockPacketCodec.NAME, InvalidPacketHandler.NAME, new InvalidPacketHandler(session));
+            PacketMetricsHandler.addTo(channel);
 
             bedrockServerSession.setPacketHandler(new UpstreamPacketHandler(this.geyser, session));
         } catch (Throwable e) {
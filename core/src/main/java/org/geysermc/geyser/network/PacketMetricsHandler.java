@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.cloudburstmc.protocol.bedrock.netty.BedrockBatchWrapper;
+import org.cloudburstmc.protocol.bedrock.netty.BedrockPacketWrapper;
+import org.cloudburstmc.protocol.bedrock.netty.codec.packet.BedrockPacketCodec;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.geysermc.geyser.metrics.PacketMetrics;
+
+/**
+ * Records the encoded size of every Bedrock packet, per packet type.
+ * Outbound packets are only encoded after {@link BedrockPacketCodec} while inbound packets are only decoded after it,
+ * so one handler is placed on either side of the codec.
+ */
+public final class PacketMetricsHandler {
+    public static final String OUTBOUND_NAME = "geyser-metrics-outbound";
+    public static final String INBOUND_NAME = "geyser-metrics-inbound";
+
+    private static final Outbound OUTBOUND = new Outbound();
+    private static final Inbound INBOUND = new Inbound();
+
+    private PacketMetricsHandler() {
+    }
+
+    public static void addTo(Channel channel) {
+        if (!PacketMetrics.ENABLED) {
+            return;
+        }
+        channel.pipeline()
+            .addBefore(BedrockPacketCodec.NAME, OUTBOUND_NAME, OUTBOUND)
+            .addAfter(BedrockPacketCodec.NAME, INBOUND_NAME, INBOUND);
+    }
+
+    private static void record(BedrockPacketWrapper wrapper, boolean outbound) {
+        BedrockPacket packet = wrapper.getPacket();
+        ByteBuf buffer = wrapper.getPacketBuffer();
+        if (packet == null || buffer == null) {
+            return;
+        }
+        if (outbound) {
+            PacketMetrics.stats(packet.getClass()).recordUpstreamOut(buffer.readableBytes());
+        } else {
+            PacketMetrics.stats(packet.getClass()).recordUpstreamIn(buffer.readableBytes());
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static final class Outbound extends ChannelOutboundHandlerAdapter {
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof BedrockBatchWrapper batch) {
+                for (BedrockPacketWrapper wrapper : batch.getPackets()) {
+                    record(wrapper, true);
+                }
+            }
+            super.write(ctx, msg, promise);
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static final class Inbound extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            if (msg instanceof BedrockPacketWrapper wrapper) {
+                record(wrapper, false);
+            }
+            super.channelRead(ctx, msg);
+        }
+    }
+}
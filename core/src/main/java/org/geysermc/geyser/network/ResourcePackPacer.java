@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.channel.Channel;
+import org.cloudburstmc.netty.channel.raknet.RakChildChannel;
+import org.cloudburstmc.netty.handler.codec.raknet.common.RakSessionCodec;
+import org.geysermc.geyser.session.GeyserSession;
+
+/**
+ * Paces resource pack chunks sent to console clients, which struggle when a whole pack arrives in one burst.
+ * <p>
+ * The send rate grows additively for every chunk sent while the connection keeps up, and is halved once RakNet's
+ * round-trip time climbs well above the lowest one seen (chunks are queueing up behind unacknowledged datagrams)
+ * or the channel stops being writable. Only used from the session's event loop.
+ */
+final class ResourcePackPacer {
+    /**
+     * The slowest pace, and the pace every download starts at. Matches the previous fixed delay of four ticks.
+     */
+    private static final long MAX_DELAY_MILLIS = Long.getLong("Geyser.ConsolePackMaxChunkDelay", 4 * 50);
+    private static final long MIN_DELAY_MILLIS = Math.min(MAX_DELAY_MILLIS, Long.getLong("Geyser.ConsolePackMinChunkDelay", 20));
+    /**
+     * How far the round-trip time may rise above its baseline before the rate is cut
+     */
+    private static final int QUEUEING_TOLERANCE_MILLIS = 50;
+    /**
+     * RakNet only refreshes its ping occasionally, so one measurement shouldn't halve the rate repeatedly
+     */
+    private static final long DECREASE_HOLD_MILLIS = 1000;
+    private static final double MIN_RATE = 1000D / MAX_DELAY_MILLIS;
+    private static final double MAX_RATE = 1000D / MIN_DELAY_MILLIS;
+
+    private final GeyserSession session;
+    /**
+     * Chunks per second
+     */
+    private double rate = MIN_RATE;
+    private int baseRtt = Integer.MAX_VALUE;
+    private long lastDecrease;
+
+    ResourcePackPacer(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Called after a chunk was sent, to work out how long to wait before sending the next one.
+     */
+    long nextDelayMillis() {
+        Channel channel = session.getUpstream().getSession().getPeer().getChannel();
+        int rtt = rtt(channel);
+        if (rtt > 0) {
+            baseRtt = Math.min(baseRtt, rtt);
+        }
+
+        long now = System.currentTimeMillis();
+        boolean congested = !channel.isWritable()
+            || (rtt > 0 && rtt - baseRtt > Math.max(QUEUEING_TOLERANCE_MILLIS, baseRtt / 2));
+        if (congested) {
+            if (now - lastDecrease >= DECREASE_HOLD_MILLIS) {
+                rate = Math.max(MIN_RATE, rate / 2);
+                lastDecrease = now;
+            }
+        } else {
+            rate = Math.min(MAX_RATE, rate + 1);
+        }
+        return Math.round(1000 / rate);
+    }
+
+    private static int rtt(Channel channel) {
+        if (channel instanceof RakChildChannel rakChannel) {
+            RakSessionCodec codec = rakChannel.rakPipeline().get(RakSessionCodec.class);
+            if (codec != null) {
+                return (int) codec.getPing();
+            }
+        }
+        return 0;
+    }
+}
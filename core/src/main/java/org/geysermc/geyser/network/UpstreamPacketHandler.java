@@ -83,6 +83,7 @@ import java.util.Deque;
 import java.util.OptionalInt;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -93,9 +94,9 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
     private final CompressionStrategy compressionStrategy;
 
     // Avoid overloading consoles when downloading larger resource packs
-    private static final int PACKET_SEND_DELAY = 4 * 50;
     private final Queue<ResourcePackChunkRequestPacket> chunkRequestQueue = new ConcurrentLinkedQueue<>();
     private boolean currentlySendingChunks = false;
+    private ResourcePackPacer packPacer;
 
     private SessionLoadResourcePacksEventImpl resourcePackLoadEvent;
 
@@ -196,11 +197,24 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         session.setBlockMappings(BlockRegistries.BLOCKS.forVersion(loginPacket.getProtocolVersion()));
         session.setItemMappings(Registries.ITEMS.forVersion(loginPacket.getProtocolVersion()));
 
-        LoginEncryptionUtils.encryptPlayerConnection(session, loginPacket);
+        // Verification runs off the network thread; the login continues once it is done
+        LoginEncryptionUtils.encryptPlayerConnection(session, loginPacket)
+            .thenRun(this::onLoginVerified)
+            .whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    // Most likely a SessionInitializeEvent or SessionLoadResourcePacksEvent listener threw
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    geyser.getLogger().error("Unable to continue the login of " + session.bedrockUsername(), cause);
+                    session.disconnect("disconnectionScreen.internalError.cantConnect");
+                }
+            });
+        return PacketSignal.HANDLED;
+    }
 
+    private void onLoginVerified() {
         if (session.isClosed()) {
             // Can happen if Xbox validation fails
-            return PacketSignal.HANDLED;
+            return;
         }
 
         // Fire SessionInitializeEvent here as we now know the client data
@@ -225,7 +239,6 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         session.sendUpstreamPacket(resourcePacksInfo);
 
         GeyserLocale.loadGeyserLocale(session.locale());
-        return PacketSignal.HANDLED;
     }
 
     @Override
@@ -315,13 +328,17 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
     public PacketSignal handle(ResourcePackChunkRequestPacket packet) {
         // Resolve some console pack downloading issues.
         // See <https://github.com/PowerNukkitX/PowerNukkitX/pull/1997> for reference
-        chunkRequestQueue.add(packet);
         if (isConsole()) {
-            if (!currentlySendingChunks) {
-                currentlySendingChunks = true;
-                processNextChunk();
-            }
+            // Paced on the session's own event loop
+            session.executeInEventLoop(() -> {
+                chunkRequestQueue.add(packet);
+                if (!currentlySendingChunks) {
+                    currentlySendingChunks = true;
+                    processNextChunk();
+                }
+            });
         } else {
+            chunkRequestQueue.add(packet);
             processNextChunk();
         }
         return PacketSignal.HANDLED;
@@ -382,7 +399,10 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
             // Also flushes packets
             // Avoids bursting slower / delayed clients
             session.sendUpstreamPacketImmediately(data);
-            GeyserImpl.getInstance().getScheduledThread().schedule(this::processNextChunk, PACKET_SEND_DELAY, TimeUnit.MILLISECONDS);
+            if (packPacer == null) {
+                packPacer = new ResourcePackPacer(session);
+            }
+            session.scheduleInEventLoop(this::processNextChunk, packPacer.nextDelayMillis(), TimeUnit.MILLISECONDS);
         } else {
             session.sendUpstreamPacket(data);
         }
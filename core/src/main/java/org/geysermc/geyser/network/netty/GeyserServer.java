@@ -29,19 +29,25 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
-import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollIoHandler;
 import io.netty.channel.kqueue.KQueue;
 import io.netty.channel.kqueue.KQueueDatagramChannel;
-import io.netty.channel.kqueue.KQueueEventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.kqueue.KQueueIoHandler;
+import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringDatagramChannel;
+import io.netty.channel.uring.IoUringIoHandler;
 import io.netty.util.concurrent.Future;
 import lombok.Getter;
 import net.jodah.expiringmap.ExpirationPolicy;
 import net.jodah.expiringmap.ExpiringMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.netty.channel.raknet.RakChannelFactory;
 import org.cloudburstmc.netty.channel.raknet.config.RakChannelOption;
 import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerOfflineHandler;
@@ -52,12 +58,13 @@ import org.geysermc.geyser.api.event.connection.ConnectionRequestEvent;
 import org.geysermc.geyser.command.defaults.ConnectionTestCommand;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.event.type.GeyserBedrockPingEventImpl;
-import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.network.GeyserServerInitializer;
+import org.geysermc.geyser.network.netty.handler.ConnectionRequestLimiter;
 import org.geysermc.geyser.network.netty.handler.RakConnectionRequestHandler;
 import org.geysermc.geyser.network.netty.handler.RakGeyserRateLimiter;
 import org.geysermc.geyser.network.netty.handler.RakPingHandler;
+import org.geysermc.geyser.network.netty.proxy.ProxyProtocolWhitelist;
 import org.geysermc.geyser.network.netty.proxy.ProxyServerHandler;
 import org.geysermc.geyser.ping.GeyserPingInfo;
 import org.geysermc.geyser.ping.IGeyserPingPassthrough;
@@ -70,7 +77,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import static org.cloudburstmc.netty.channel.raknet.RakConstants.DEFAULT_GLOBAL_PACKET_LIMIT;
@@ -78,6 +84,10 @@ import static org.cloudburstmc.netty.channel.raknet.RakConstants.DEFAULT_PACKET_
 
 public final class GeyserServer {
     private static final boolean PRINT_DEBUG_PINGS = Boolean.parseBoolean(System.getProperty("Geyser.PrintPingsInDebugMode", "true"));
+    /**
+     * io_uring is opt-in for now, as some kernels and container runtimes (e.g. default Docker seccomp profiles) restrict it
+     */
+    private static final boolean IO_URING = Boolean.parseBoolean(System.getProperty("Geyser.io_uring", "false"));
 
     /*
     The following constants are all used to ensure the ping does not reach a length where it is unparsable by the Bedrock client
@@ -103,10 +113,17 @@ public final class GeyserServer {
     // Split childGroup may improve IO
     private EventLoopGroup childGroup;
     private final ServerBootstrap bootstrap;
+    @Getter
     private EventLoopGroup playerGroup;
 
     @Getter
     private final ExpiringMap<InetSocketAddress, InetSocketAddress> proxiedAddresses;
+    /**
+     * Null unless proxy protocol is enabled with a whitelist
+     */
+    private final @Nullable ProxyProtocolWhitelist proxyProtocolWhitelist;
+    @Getter
+    private final ConnectionRequestLimiter connectionRequestLimiter;
     private int listenCount;
 
     private ChannelFuture[] bootstrapFutures;
@@ -124,8 +141,8 @@ public final class GeyserServer {
         this.geyser = geyser;
         this.listenCount = Bootstraps.isReusePortAvailable() ?  Integer.getInteger("Geyser.ListenCount", 2) : 1;
         GeyserImpl.getInstance().getLogger().debug("Listen thread count: " + listenCount);
-        this.group = TRANSPORT.eventLoopGroupFactory().apply(listenCount);
-        this.childGroup = TRANSPORT.eventLoopGroupFactory().apply(threadCount);
+        this.group = TRANSPORT.newEventLoopGroup(listenCount);
+        this.childGroup = TRANSPORT.newEventLoopGroup(threadCount);
 
         this.bootstrap = this.createBootstrap();
         // setup SO_REUSEPORT if exists - or, if the option does not actually exist, reset listen count
@@ -142,6 +159,16 @@ public final class GeyserServer {
             this.proxiedAddresses = null;
         }
 
+        List<String> whitelistedIPs = geyser.getConfig().getBedrock().getProxyProtocolWhitelistedIPs();
+        if (this.geyser.getConfig().getBedrock().isEnableProxyProtocol() && !whitelistedIPs.isEmpty()) {
+            // Fetching any URL lists here keeps that off the listen threads
+            this.proxyProtocolWhitelist = new ProxyProtocolWhitelist(whitelistedIPs, geyser.getScheduledThread());
+        } else {
+            this.proxyProtocolWhitelist = null;
+        }
+        // Behind a PROXY protocol speaking proxy, every request arrives from the proxy's address
+        this.connectionRequestLimiter = new ConnectionRequestLimiter(!this.geyser.getConfig().getBedrock().isEnableProxyProtocol());
+
         this.broadcastPort = geyser.getConfig().getBedrock().broadcastPort();
     }
 
@@ -180,6 +207,9 @@ public final class GeyserServer {
     }
 
     public void shutdown() {
+        if (proxyProtocolWhitelist != null) {
+            proxyProtocolWhitelist.close();
+        }
         try {
             Future<?> futureChildGroup = this.childGroup.shutdownGracefully(SHUTDOWN_QUIET_PERIOD_MS, SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
             this.childGroup = null;
@@ -209,6 +239,9 @@ public final class GeyserServer {
                     this.geyser.getLogger().debug("EventLoop type is NIO because native event loops are disabled.");
                 } else {
                     // Use lambda here, not method reference, or else NoClassDefFoundError for Epoll/KQueue will not be caught
+                    if (IO_URING) {
+                        this.geyser.getLogger().debug("Reason for no io_uring: " + throwableOrCaught(() -> IoUring.unavailabilityCause()));
+                    }
                     this.geyser.getLogger().debug("Reason for no Epoll: " + throwableOrCaught(() -> Epoll.unavailabilityCause()));
                     this.geyser.getLogger().debug("Reason for no KQueue: " + throwableOrCaught(() -> KQueue.unavailabilityCause()));
                 }
@@ -239,21 +272,13 @@ public final class GeyserServer {
                 .childHandler(serverInitializer);
     }
 
-    public boolean onConnectionRequest(InetSocketAddress inetSocketAddress) {
-        List<String> allowedProxyIPs = geyser.getConfig().getBedrock().getProxyProtocolWhitelistedIPs();
-        if (geyser.getConfig().getBedrock().isEnableProxyProtocol() && !allowedProxyIPs.isEmpty()) {
-            boolean isWhitelistedIP = false;
-            for (CIDRMatcher matcher : geyser.getConfig().getBedrock().getWhitelistedIPsMatchers()) {
-                if (matcher.matches(inetSocketAddress.getAddress())) {
-                    isWhitelistedIP = true;
-                    break;
-                }
-            }
-
-            if (!isWhitelistedIP) {
-                connectionAttempts++;
-                return false;
-            }
+    /**
+     * @param rawAddress the raw address of the sender, as returned by {@link java.net.InetAddress#getAddress()}
+     */
+    public boolean onConnectionRequest(InetSocketAddress inetSocketAddress, byte[] rawAddress) {
+        if (proxyProtocolWhitelist != null && !proxyProtocolWhitelist.isAllowed(rawAddress)) {
+            connectionAttempts++;
+            return false;
         }
 
         String ip;
@@ -431,25 +456,27 @@ public final class GeyserServer {
     }
 
     private static Transport compatibleTransport() {
-        // FIXME supporting io_uring post 4.2 requires more changes
-//        if (isClassAvailable("io.netty.incubator.channel.uring.IOUring")
-//                && IOUring.isAvailable()
-//                && Boolean.parseBoolean(System.getProperty("Geyser.io_uring"))) {
-//            return new Transport(IOUringDatagramChannel.class, IOUringEventLoopGroup::new);
-//        }
+        if (IO_URING
+                && isClassAvailable("io.netty.channel.uring.IoUring")
+                && IoUring.isAvailable()) {
+            return new Transport(IoUringDatagramChannel.class, IoUringIoHandler.newFactory());
+        }
 
         if (isClassAvailable("io.netty.channel.epoll.Epoll") && Epoll.isAvailable()) {
-            return new Transport(EpollDatagramChannel.class, EpollEventLoopGroup::new);
+            return new Transport(EpollDatagramChannel.class, EpollIoHandler.newFactory());
         }
 
         if (isClassAvailable("io.netty.channel.kqueue.KQueue") && KQueue.isAvailable()) {
-            return new Transport(KQueueDatagramChannel.class, KQueueEventLoopGroup::new);
+            return new Transport(KQueueDatagramChannel.class, KQueueIoHandler.newFactory());
         }
 
-        return new Transport(NioDatagramChannel.class, NioEventLoopGroup::new);
+        return new Transport(NioDatagramChannel.class, NioIoHandler.newFactory());
     }
 
-    private record Transport(Class<? extends DatagramChannel> datagramChannel, IntFunction<EventLoopGroup> eventLoopGroupFactory) {
+    private record Transport(Class<? extends DatagramChannel> datagramChannel, IoHandlerFactory ioHandlerFactory) {
+        EventLoopGroup newEventLoopGroup(int threads) {
+            return new MultiThreadIoEventLoopGroup(threads, ioHandlerFactory);
+        }
     }
 
     /**
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.netty.handler;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import lombok.Getter;
+import org.geysermc.geyser.network.CIDRTrie;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for RakNet open connection requests, checked before any event is fired or anything is logged.
+ * <p>
+ * Each request takes a token from the bucket of its subnet (/24 for IPv4, /64 for IPv6), then from a global bucket.
+ * Subnet buckets live in a fixed-size table of packed longs updated with compare-and-set, so there is no per-address
+ * state to clean up and a flood from many addresses cannot grow memory. Subnets that hash to the same slot share a bucket.
+ * <p>
+ * Bedrock clients send several open connection requests per join while discovering the MTU, so the defaults leave room for that.
+ */
+public final class ConnectionRequestLimiter {
+    private static final int SUBNET_RATE = Integer.getInteger("Geyser.ConnectionRequestsPerSubnet", 10);
+    private static final int SUBNET_BURST = Integer.getInteger("Geyser.ConnectionRequestSubnetBurst", 50);
+    private static final int GLOBAL_RATE = Integer.getInteger("Geyser.ConnectionRequestsPerSecond", 1000);
+    private static final int GLOBAL_BURST = Integer.getInteger("Geyser.ConnectionRequestGlobalBurst", 2000);
+    private static final int TABLE_SIZE = 8192; // must be a power of two
+    /**
+     * Tokens are stored in thousandths, so that a rate in tokens per second is also the refill in thousandths per millisecond
+     */
+    private static final int TOKEN = 1000;
+
+    private final AtomicLongArray subnets = new AtomicLongArray(TABLE_SIZE);
+    private final AtomicLongArray global = new AtomicLongArray(1);
+    private final long startNanos = System.nanoTime();
+    private final boolean limitSubnets;
+
+    @Getter
+    private final LongAdder admitted = new LongAdder();
+    @Getter
+    private final LongAdder droppedBySubnet = new LongAdder();
+    @Getter
+    private final LongAdder droppedGlobally = new LongAdder();
+
+    /**
+     * @param limitSubnets false if all requests arrive from the same few addresses, e.g. behind a PROXY protocol speaking proxy
+     */
+    public ConnectionRequestLimiter(boolean limitSubnets) {
+        this.limitSubnets = limitSubnets && SUBNET_RATE > 0;
+    }
+
+    /**
+     * @param address the raw sender address as returned by {@link InetAddress#getAddress()}
+     * @return true if the request may be processed, false if it should be dropped silently
+     */
+    public boolean tryAdmit(byte[] address) {
+        int now = now();
+        if (limitSubnets && !tryAcquire(subnets, slot(address), now, SUBNET_RATE, SUBNET_BURST)) {
+            droppedBySubnet.increment();
+            return false;
+        }
+        if (GLOBAL_RATE > 0 && !tryAcquire(global, 0, now, GLOBAL_RATE, GLOBAL_BURST)) {
+            droppedGlobally.increment();
+            return false;
+        }
+        admitted.increment();
+        return true;
+    }
+
+    /**
+     * Each bucket is one long: the last refill time in milliseconds in the upper half, the stored tokens in the lower half.
+     * A zero long is a bucket that was never used, and therefore full.
+     */
+    private static boolean tryAcquire(AtomicLongArray buckets, int index, int now, int rate, int burst) {
+        long capacity = (long) Math.max(1, burst) * TOKEN;
+        while (true) {
+            long state = buckets.get(index);
+            long tokens;
+            if (state == 0) {
+                tokens = capacity;
+            } else {
+                long elapsed = Integer.toUnsignedLong(now - (int) (state >>> 32));
+                tokens = Math.min(capacity, (state & 0xFFFFFFFFL) + elapsed * rate);
+            }
+            if (tokens < TOKEN) {
+                // Nothing to write; the refill is calculated from the last stored time either way
+                return false;
+            }
+            long next = ((long) now << 32) | (tokens - TOKEN);
+            if (buckets.compareAndSet(index, state, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static int slot(byte[] address) {
+        long subnet;
+        if (address.length == 4) {
+            subnet = CIDRTrie.toInt(address) & 0xFFFFFF00;
+        } else {
+            subnet = 0;
+            for (int i = 0; i < 8; i++) {
+                subnet = subnet << 8 | (address[i] & 0xFF);
+            }
+        }
+        return (int) HashCommon.mix(subnet) & (TABLE_SIZE - 1);
+    }
+
+    private int now() {
+        // Never zero, so a used bucket is never mistaken for an unused one
+        return (int) ((System.nanoTime() - startNanos) / 1_000_000) | 1;
+    }
+}
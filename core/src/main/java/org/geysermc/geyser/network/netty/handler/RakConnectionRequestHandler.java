@@ -81,10 +81,18 @@ public class RakConnectionRequestHandler extends ChannelInboundHandlerAdapter {
             return;
         }
 
+        // Copied once here, as the limiter and the whitelist both need it
+        byte[] address = packet.sender().getAddress().getAddress();
+        if (!this.server.getConnectionRequestLimiter().tryAdmit(address)) {
+            // Dropped without a reply, event or log message, so a flood costs as little as possible
+            packet.release();
+            return;
+        }
+
         ByteBuf magicBuf = ctx.channel().config().getOption(RakChannelOption.RAK_UNCONNECTED_MAGIC);
         long guid = ctx.channel().config().getOption(RakChannelOption.RAK_GUID);
 
-        if (!this.server.onConnectionRequest(packet.sender())) {
+        if (!this.server.onConnectionRequest(packet.sender(), address)) {
             this.sendConnectionBanned(ctx, packet.sender(), magicBuf, guid);
         } else {
             ctx.fireChannelRead(msg);
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.netty.proxy;
+
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.GeyserLogger;
+import org.geysermc.geyser.network.CIDRTrie;
+import org.geysermc.geyser.util.WebUtils;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The addresses allowed to send PROXY protocol headers, compiled into a {@link CIDRTrie}.
+ * <p>
+ * Entries starting with {@code http} are fetched as line-separated lists of ranges, and fetched again periodically.
+ * A refresh builds a new trie and swaps it in at once, so connection requests never see a partially updated list.
+ */
+public final class ProxyProtocolWhitelist {
+    private static final long REFRESH_MINUTES = Long.getLong("Geyser.ProxyProtocolWhitelistRefreshMinutes", 60);
+
+    private final List<String> entries;
+    /**
+     * The last successfully fetched ranges per URL, reused if a later fetch fails
+     */
+    private final Map<String, List<String>> fetched = new HashMap<>();
+    private final ScheduledFuture<?> refreshTask;
+    private volatile CIDRTrie trie;
+
+    public ProxyProtocolWhitelist(List<String> entries, ScheduledExecutorService scheduler) {
+        this.entries = List.copyOf(entries);
+        this.trie = compile();
+
+        boolean hasUrls = this.entries.stream().anyMatch(ProxyProtocolWhitelist::isUrl);
+        ScheduledFuture<?> refreshTask = null;
+        if (hasUrls && REFRESH_MINUTES > 0) {
+            try {
+                refreshTask = scheduler.scheduleWithFixedDelay(this::refresh, REFRESH_MINUTES, REFRESH_MINUTES, TimeUnit.MINUTES);
+            } catch (RejectedExecutionException ignored) {
+                // Shutting down
+            }
+        }
+        this.refreshTask = refreshTask;
+    }
+
+    /**
+     * @param address the raw address as returned by {@link InetAddress#getAddress()}
+     */
+    public boolean isAllowed(byte[] address) {
+        return trie.matches(address);
+    }
+
+    public void refresh() {
+        CIDRTrie trie = compile();
+        this.trie = trie;
+        GeyserImpl.getInstance().getLogger().debug("Refreshed the proxy protocol whitelist: " + trie.size() + " ranges");
+    }
+
+    public void close() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+        }
+    }
+
+    private synchronized CIDRTrie compile() {
+        GeyserLogger logger = GeyserImpl.getInstance().getLogger();
+        CIDRTrie.Builder builder = new CIDRTrie.Builder();
+        for (String entry : entries) {
+            if (!isUrl(entry)) {
+                add(builder, entry, logger);
+                continue;
+            }
+
+            List<String> lines = WebUtils.getLineStream(entry)
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+            if (lines.isEmpty()) {
+                // Either the request failed (and was logged), or the list really is empty; keep what we had before
+                lines = fetched.getOrDefault(entry, List.of());
+            } else {
+                fetched.put(entry, lines);
+            }
+            for (String line : lines) {
+                add(builder, line, logger);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void add(CIDRTrie.Builder builder, String range, GeyserLogger logger) {
+        try {
+            builder.add(range);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Ignoring invalid proxy protocol whitelist entry: " + range);
+        }
+    }
+
+    private static boolean isUrl(String entry) {
+        return entry.startsWith("http");
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack.http;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LineBasedFrameDecoder;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.GeyserLogger;
+import org.geysermc.geyser.api.pack.PathPackCodec;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves local resource packs over HTTP, so Bedrock clients can download them like URL packs instead of receiving them
+ * chunk by chunk over RakNet. Clients that fail to download a pack still request it over RakNet as before.
+ * <p>
+ * Packs are addressed by the hex SHA-256 of their contents, so their URLs can be cached forever and change with the
+ * pack. Files are sent with {@link DefaultFileRegion}, which uses {@code sendfile} where available, and single byte
+ * ranges are supported for resumed downloads.
+ * <p>
+ * Disabled unless {@code -DGeyser.PackServerPort} is set. {@code -DGeyser.PackServerAddress} sets the address to bind to,
+ * and {@code -DGeyser.PackServerUrl} the base URL handed to clients; it defaults to the Bedrock address and the
+ * pack server port, which only works if Geyser is bound to a specific address.
+ */
+public final class ResourcePackHttpServer {
+    private static final String PATH_PREFIX = "/packs/";
+    private static final String PATH_SUFFIX = ".zip";
+    private static final int MAX_LINE_LENGTH = 8192;
+    private static final int MAX_HEADERS = 100;
+    private static final int READ_TIMEOUT_SECONDS = 15;
+
+    private final EventLoopGroup group;
+    private final String baseUrl;
+    private Channel channel;
+    /**
+     * Packs that have been advertised to clients, by hex SHA-256. Nothing else is served.
+     */
+    private final Map<String, AdvertisedPack> packs = new ConcurrentHashMap<>();
+
+    private ResourcePackHttpServer(EventLoopGroup group, String baseUrl) {
+        this.group = group;
+        this.baseUrl = baseUrl;
+    }
+
+    public static @Nullable ResourcePackHttpServer startIfEnabled(GeyserImpl geyser) {
+        Integer port = Integer.getInteger("Geyser.PackServerPort");
+        if (port == null || port <= 0) {
+            return null;
+        }
+        GeyserLogger logger = geyser.getLogger();
+        String address = System.getProperty("Geyser.PackServerAddress", "0.0.0.0");
+
+        String baseUrl = System.getProperty("Geyser.PackServerUrl");
+        if (baseUrl == null) {
+            String bedrockAddress = geyser.getConfig().getBedrock().address();
+            if ("0.0.0.0".equals(bedrockAddress) || "::".equals(bedrockAddress)) {
+                logger.warning("Not starting the resource pack HTTP server: set -DGeyser.PackServerUrl to the address clients should download packs from");
+                return null;
+            }
+            String host = bedrockAddress.indexOf(':') != -1 ? "[" + bedrockAddress + "]" : bedrockAddress;
+            baseUrl = "http://" + host + ":" + port;
+        }
+        if (baseUrl.endsWith("/")) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+
+        EventLoopGroup group = new MultiThreadIoEventLoopGroup(2, new DefaultThreadFactory("Geyser Pack Server", true), NioIoHandler.newFactory());
+        ResourcePackHttpServer server = new ResourcePackHttpServer(group, baseUrl);
+        try {
+            server.channel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                            .addLast(new ReadTimeoutHandler(READ_TIMEOUT_SECONDS))
+                            .addLast(new LineBasedFrameDecoder(MAX_LINE_LENGTH))
+                            .addLast(new RequestHandler(server));
+                    }
+                })
+                .bind(new InetSocketAddress(address, port))
+                .syncUninterruptibly()
+                .channel();
+            logger.info("Serving resource packs over HTTP on " + address + ":" + port + ", advertised as " + baseUrl);
+            return server;
+        } catch (Exception e) {
+            logger.error("Could not start the resource pack HTTP server on " + address + ":" + port, e);
+            group.shutdownGracefully();
+            return null;
+        }
+    }
+
+    /**
+     * @return the URL clients can download this pack from
+     */
+    public String urlFor(PathPackCodec codec) {
+        String hash = HexFormat.of().formatHex(codec.sha256());
+        Path path = codec.path();
+        FileTime lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            lastModified = FileTime.fromMillis(0);
+        }
+        packs.put(hash, new AdvertisedPack(path, hash, lastModified));
+        return baseUrl + PATH_PREFIX + hash + PATH_SUFFIX;
+    }
+
+    public void close() {
+        channel.close();
+        group.shutdownGracefully();
+    }
+
+    private @Nullable AdvertisedPack pack(String path) {
+        if (!path.startsWith(PATH_PREFIX) || !path.endsWith(PATH_SUFFIX)) {
+            return null;
+        }
+        String hash = path.substring(PATH_PREFIX.length(), path.length() - PATH_SUFFIX.length()).toLowerCase(Locale.ROOT);
+        AdvertisedPack pack = packs.get(hash);
+        if (pack == null) {
+            return null;
+        }
+        // Hashing the pack again would block the event loop, so only check whether it was touched since
+        try {
+            if (Files.getLastModifiedTime(pack.path()).compareTo(pack.lastModified()) > 0) {
+                // The pack changed on disk since it was advertised; this URL is outdated
+                packs.remove(hash, pack);
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return pack;
+    }
+
+    /**
+     * A pack as it was when its URL was handed out.
+     */
+    private record AdvertisedPack(Path path, String hash, FileTime lastModified) {
+    }
+
+    /**
+     * Reads the request line and headers, answers once, and closes the connection.
+     */
+    private static final class RequestHandler extends SimpleChannelInboundHandler<ByteBuf> {
+        private final ResourcePackHttpServer server;
+        private @Nullable String requestLine;
+        private @Nullable String range;
+        private int headers;
+
+        RequestHandler(ResourcePackHttpServer server) {
+            this.server = server;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+            if (!ctx.channel().config().isAutoRead()) {
+                // Already answered; ignore anything else the client sends
+                return;
+            }
+            String line = msg.toString(StandardCharsets.US_ASCII);
+            if (requestLine == null) {
+                requestLine = line;
+                return;
+            }
+            if (!line.isEmpty()) {
+                if (++headers > MAX_HEADERS) {
+                    respond(ctx, 431, "Request Header Fields Too Large");
+                    return;
+                }
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Range")) {
+                    range = line.substring(colon + 1).trim();
+                }
+                return;
+            }
+
+            ctx.channel().config().setAutoRead(false);
+            handleRequest(ctx);
+        }
+
+        private void handleRequest(ChannelHandlerContext ctx) {
+            String[] parts = requestLine.split(" ");
+            if (parts.length != 3 || !parts[2].startsWith("HTTP/1.")) {
+                respond(ctx, 400, "Bad Request");
+                return;
+            }
+            boolean head = parts[0].equals("HEAD");
+            if (!head && !parts[0].equals("GET")) {
+                respond(ctx, 405, "Method Not Allowed");
+                return;
+            }
+            AdvertisedPack pack = server.pack(parts[1]);
+            if (pack == null) {
+                respond(ctx, 404, "Not Found");
+                return;
+            }
+
+            FileChannel file;
+            long size;
+            try {
+                file = FileChannel.open(pack.path());
+                size = file.size();
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().debug("Unable to open resource pack " + pack.path() + ": " + e.getMessage());
+                respond(ctx, 404, "Not Found");
+                return;
+            }
+
+            long start = 0;
+            long end = size - 1;
+            boolean partial = false;
+            if (range != null) {
+                long[] bounds = parseRange(range, size);
+                if (bounds == null) {
+                    closeQuietly(file);
+                    StringBuilder response = statusLine(416, "Range Not Satisfiable");
+                    header(response, "Content-Range", "bytes */" + size);
+                    header(response, "Content-Length", "0");
+                    send(ctx, response);
+                    return;
+                }
+                start = bounds[0];
+                end = bounds[1];
+                partial = true;
+            }
+            long length = end - start + 1;
+
+            StringBuilder response = partial ? statusLine(206, "Partial Content") : statusLine(200, "OK");
+            header(response, "Content-Type", "application/zip");
+            header(response, "Content-Length", Long.toString(length));
+            header(response, "Accept-Ranges", "bytes");
+            header(response, "ETag", "\"" + pack.hash() + "\"");
+            header(response, "Cache-Control", "public, max-age=31536000, immutable");
+            if (partial) {
+                header(response, "Content-Range", "bytes " + start + "-" + end + "/" + size);
+            }
+
+            if (head || length == 0) {
+                closeQuietly(file);
+                send(ctx, response);
+                return;
+            }
+            ctx.write(headerBuffer(ctx, response));
+            // Zero-copy where the transport supports it; the region closes the file once released
+            ctx.writeAndFlush(new DefaultFileRegion(file, start, length)).addListener(ChannelFutureListener.CLOSE);
+        }
+
+        /**
+         * @return the inclusive start and end of a single byte range, or null if it can't be satisfied
+         */
+        private static long @Nullable [] parseRange(String range, long size) {
+            if (!range.startsWith("bytes=") || range.indexOf(',') != -1 || size == 0) {
+                return null;
+            }
+            String spec = range.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash == -1) {
+                return null;
+            }
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    // Suffix range: the last N bytes
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0) {
+                        return null;
+                    }
+                    return new long[] {Math.max(0, size - suffix), size - 1};
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+                if (start < 0 || start > end) {
+                    return null;
+                }
+                return new long[] {start, end};
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void respond(ChannelHandlerContext ctx, int status, String reason) {
+            ctx.channel().config().setAutoRead(false);
+            StringBuilder response = statusLine(status, reason);
+            header(response, "Content-Length", "0");
+            send(ctx, response);
+        }
+
+        private static StringBuilder statusLine(int status, String reason) {
+            StringBuilder builder = new StringBuilder(256).append("HTTP/1.1 ").append(status).append(' ').append(reason).append("\r\n");
+            header(builder, "Connection", "close");
+            return builder;
+        }
+
+        private static void header(StringBuilder builder, String name, String value) {
+            builder.append(name).append(": ").append(value).append("\r\n");
+        }
+
+        private static void send(ChannelHandlerContext ctx, StringBuilder response) {
+            ctx.writeAndFlush(headerBuffer(ctx, response)).addListener(ChannelFutureListener.CLOSE);
+        }
+
+        private static ByteBuf headerBuffer(ChannelHandlerContext ctx, StringBuilder response) {
+            response.append("\r\n");
+            return ByteBufUtil.writeAscii(ctx.alloc(), response);
+        }
+
+        private static void closeQuietly(FileChannel file) {
+            try {
+                file.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            if (cause instanceof TooLongFrameException) {
+                respond(ctx, 431, "Request Header Fields Too Large");
+                return;
+            }
+            GeyserImpl.getInstance().getLogger().debug("Error in resource pack HTTP connection: " + cause.getMessage());
+            ctx.close();
+        }
+    }
+}
@@ -48,6 +48,17 @@ public class GeyserPathPackCodec extends PathPackCodec {
     private byte[] sha256;
     private long size = -1;
 
+    /**
+     * Creates a codec for a pack whose size and hash are already known, e.g. from the resource pack index.
+     * They are still recalculated if the pack is modified after the given time.
+     */
+    public GeyserPathPackCodec(Path path, FileTime lastModified, long size, byte[] sha256) {
+        this.path = path;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
     @Override
     public @NonNull Path path() {
         this.checkLastModified();
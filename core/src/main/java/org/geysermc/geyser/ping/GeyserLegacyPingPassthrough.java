@@ -34,15 +34,21 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.nbt.util.VarInts;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 
 import java.io.*;
 import java.net.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class GeyserLegacyPingPassthrough implements IGeyserPingPassthrough, Runnable {
     private static final byte[] HAPROXY_BINARY_PREFIX = new byte[]{13, 10, 13, 10, 0, 13, 10, 81, 85, 73, 84, 10};
 
     private final GeyserImpl geyser;
+    /**
+     * Skips a scheduled ping while the previous one is still waiting on the remote server
+     */
+    private final AtomicBoolean pinging = new AtomicBoolean();
 
     public GeyserLegacyPingPassthrough(GeyserImpl geyser) {
         this.geyser = geyser;
@@ -61,7 +67,8 @@ public class GeyserLegacyPingPassthrough implements IGeyserPingPassthrough, Runn
             // Ensure delay is not zero
             int interval = (geyser.getConfig().getPingPassthroughInterval() == 0) ? 1 : geyser.getConfig().getPingPassthroughInterval();
             geyser.getLogger().debug("Scheduling ping passthrough at an interval of " + interval + " second(s).");
-            geyser.getScheduledThread().scheduleAtFixedRate(pingPassthrough, 1, interval, TimeUnit.SECONDS);
+            // The scheduled thread only kicks off pings; the socket itself blocks on the I/O executor
+            geyser.getScheduledThread().scheduleAtFixedRate(pingPassthrough::schedulePing, 1, interval, TimeUnit.SECONDS);
             return pingPassthrough;
         }
         return null;
@@ -72,6 +79,18 @@ public class GeyserLegacyPingPassthrough implements IGeyserPingPassthrough, Runn
         return pingInfo;
     }
 
+    private void schedulePing() {
+        if (pinging.compareAndSet(false, true)) {
+            BlockingIoExecutor.get().execute(() -> {
+                try {
+                    run();
+                } finally {
+                    pinging.set(false);
+                }
+            });
+        }
+    }
+
     @Override
     public void run() {
         try (Socket socket = new Socket()) {
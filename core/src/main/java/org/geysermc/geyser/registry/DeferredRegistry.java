@@ -47,7 +47,8 @@ class DeferredRegistry<M, R extends IRegistry<M>> implements IRegistry<M> {
     private final R backingRegistry;
     private final Supplier<M> loader;
 
-    private boolean loaded;
+    private volatile boolean loaded;
+    private volatile boolean loadOnFirstUse;
 
     protected <I> DeferredRegistry(Function<RegistryLoader<I, M>, R> registryLoader, RegistryLoader<I, M> deferredLoader) {
         this.backingRegistry = registryLoader.apply(RegistryLoaders.uninitialized());
@@ -77,12 +78,12 @@ class DeferredRegistry<M, R extends IRegistry<M>> implements IRegistry<M> {
      * Gets the underlying value held by this registry.
      *
      * @return the underlying value held by this registry
-     * @throws IllegalStateException if this deferred registry has not been loaded yet
+     * @throws IllegalStateException if this deferred registry has not been loaded yet, and is not loaded on first use
      */
     @Override
     public M get() {
         if (!this.loaded) {
-            throw new IllegalStateException("Registry has not been loaded yet!");
+            loadIfDeferred();
         }
 
         return this.backingRegistry.get();
@@ -97,12 +98,12 @@ class DeferredRegistry<M, R extends IRegistry<M>> implements IRegistry<M> {
      * Registers what is specified in the given {@link Consumer} into the underlying value.
      *
      * @param consumer the consumer
-     * @throws IllegalStateException if this deferred registry has not been loaded yet
+     * @throws IllegalStateException if this deferred registry has not been loaded yet, and is not loaded on first use
      */
     @Override
     public void register(Consumer<M> consumer) {
         if (!this.loaded) {
-            throw new IllegalStateException("Registry has not been loaded yet!");
+            loadIfDeferred();
         }
 
         this.backingRegistry.register(consumer);
@@ -111,11 +112,29 @@ class DeferredRegistry<M, R extends IRegistry<M>> implements IRegistry<M> {
     /**
      * Loads the registry.
      */
-    public void load() {
+    public synchronized void load() {
         this.backingRegistry.set(this.loader.get());
         this.loaded = true;
     }
 
+    /**
+     * Loads the registry the first time it is used, instead of now.
+     * For registries that are not needed during startup, and may not be needed at all.
+     */
+    public void loadOnFirstUse() {
+        this.loadOnFirstUse = true;
+    }
+
+    private synchronized void loadIfDeferred() {
+        if (this.loaded) {
+            return;
+        }
+        if (!this.loadOnFirstUse) {
+            throw new IllegalStateException("Registry has not been loaded yet!");
+        }
+        load();
+    }
+
     /**
      * Whether this registry was loaded.
      */
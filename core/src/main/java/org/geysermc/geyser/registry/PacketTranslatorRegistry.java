@@ -33,6 +33,7 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.Clien
 import io.netty.channel.EventLoop;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.erosion.ErosionCancellationException;
+import org.geysermc.geyser.metrics.PacketMetrics;
 import org.geysermc.geyser.registry.loader.RegistryLoaders;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
@@ -88,13 +89,20 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
             return;
         }
 
+        long start = PacketMetrics.ENABLED ? System.nanoTime() : 0;
+        boolean failed = false;
         try {
             translator.translate(session, packet);
         } catch (ErosionCancellationException ex) {
             GeyserImpl.getInstance().getLogger().debug("Caught ErosionCancellationException");
         } catch (Throwable ex) {
+            failed = true;
             GeyserImpl.getInstance().getLogger().error(GeyserLocale.getLocaleStringLog("geyser.network.translator.packet.failed", packet.getClass().getSimpleName()), ex);
             ex.printStackTrace();
+        } finally {
+            if (PacketMetrics.ENABLED) {
+                PacketMetrics.stats(packet.getClass()).recordTranslation(System.nanoTime() - start, failed);
+            }
         }
     }
 
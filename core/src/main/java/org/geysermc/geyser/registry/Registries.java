@@ -210,12 +210,14 @@ public final class Registries {
         BIOMES.load();
         BIOME_IDENTIFIERS.load();
         BLOCK_ENTITIES.load();
-        PARTICLES.load();
         // load potion mixes later
         //RECIPES.load();
-        SOUNDS.load();
-        SOUND_LEVEL_EVENTS.load();
-        SOUND_TRANSLATORS.load();
+
+        // Only needed once players are online, so not worth holding up startup for
+        PARTICLES.loadOnFirstUse();
+        SOUNDS.loadOnFirstUse();
+        SOUND_LEVEL_EVENTS.loadOnFirstUse();
+        SOUND_TRANSLATORS.loadOnFirstUse();
     }
 
     public static void populate() {
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.registry.loader;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.pack.GeyserResourcePack;
+import org.geysermc.geyser.pack.GeyserResourcePackManifest;
+import org.geysermc.geyser.pack.path.GeyserPathPackCodec;
+import org.geysermc.geyser.util.FileUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the size, modification time, hash and manifest of every pack read by the {@link ResourcePackLoader}.
+ * Packs that did not change since the last start are loaded from the index, without opening the zip or hashing it again.
+ * <p>
+ * Content keys are never stored here; they are always read from the key file next to the pack.
+ * <p>
+ * Only packs that were read during the current load are written back, so removed packs drop out of the index.
+ */
+final class ResourcePackIndex {
+    /**
+     * Version 1 also stored content keys, so those indexes are always rewritten
+     */
+    private static final int FORMAT_VERSION = 2;
+    private static final TypeReference<IndexFile> TYPE = new TypeReference<>() { };
+
+    private final Path file;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    /**
+     * Whether the file on disk has to be replaced even if no pack changed
+     */
+    private final boolean outdated;
+
+    private ResourcePackIndex(Path file, Map<String, Entry> previous, boolean outdated) {
+        this.file = file;
+        this.previous = previous;
+        this.outdated = outdated;
+    }
+
+    static ResourcePackIndex load(Path file) {
+        if (Files.exists(file)) {
+            try {
+                IndexFile index = GeyserImpl.JSON_MAPPER.readValue(file.toFile(), TYPE);
+                if (index != null && index.version() == FORMAT_VERSION && index.packs() != null) {
+                    return new ResourcePackIndex(file, index.packs(), false);
+                }
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().debug("Ignoring unreadable resource pack index: " + e.getMessage());
+            }
+            return new ResourcePackIndex(file, Map.of(), true);
+        }
+        return new ResourcePackIndex(file, Map.of(), false);
+    }
+
+    /**
+     * Reads the pack at the given path, using the index entry if the pack and its key file did not change since.
+     * Safe to call from multiple threads at once.
+     *
+     * @throws IllegalArgumentException if the pack could not be read
+     */
+    GeyserResourcePack.Builder read(Path path) throws IllegalArgumentException {
+        if (!ResourcePackLoader.PACK_MATCHER.matches(path)) {
+            throw new IllegalArgumentException("Resource pack " + path.getFileName() + " must be a .zip or .mcpack file!");
+        }
+
+        String key = path.toAbsolutePath().normalize().toString();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read resource pack " + path.getFileName(), e);
+        }
+        long size = attributes.size();
+        FileTime lastModified = attributes.lastModifiedTime();
+        long keyLastModified = keyLastModified(path);
+
+        Entry entry = previous.get(key);
+        if (entry != null && entry.size() == size && entry.lastModified() == lastModified.toMillis()
+                && entry.keyLastModified() == keyLastModified) {
+            try {
+                GeyserResourcePackManifest manifest = parseManifest(entry.manifest());
+                current.put(key, entry);
+                GeyserPathPackCodec codec = new GeyserPathPackCodec(path, lastModified, size, HexFormat.of().parseHex(entry.sha256()));
+                return new GeyserResourcePack.Builder(codec, manifest, ResourcePackLoader.readContentKey(path));
+            } catch (IOException | IllegalArgumentException e) {
+                GeyserImpl.getInstance().getLogger().debug("Re-reading resource pack " + path.getFileName() + " as its index entry is invalid: " + e.getMessage());
+            }
+        }
+
+        String manifestJson = ResourcePackLoader.readManifestJson(path, path.getFileName().toString());
+        GeyserResourcePackManifest manifest;
+        try {
+            manifest = parseManifest(manifestJson);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not parse the manifest of resource pack " + path.getFileName(), e);
+        }
+        String contentKey = ResourcePackLoader.readContentKey(path);
+        byte[] sha256 = FileUtils.calculateSHA256(path);
+
+        current.put(key, new Entry(size, lastModified.toMillis(), keyLastModified, HexFormat.of().formatHex(sha256), manifestJson));
+        return new GeyserResourcePack.Builder(new GeyserPathPackCodec(path, lastModified, size, sha256), manifest, contentKey);
+    }
+
+    /**
+     * Writes the index back to disk, if any pack was added, changed or removed.
+     */
+    void save() {
+        if (!outdated && current.equals(previous)) {
+            return;
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            GeyserImpl.JSON_MAPPER.writerFor(TYPE)
+                .writeValue(temporary.toFile(), new IndexFile(FORMAT_VERSION, Map.copyOf(current)));
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().error("Could not save the resource pack index", e);
+        }
+    }
+
+    private static GeyserResourcePackManifest parseManifest(String json) throws IOException {
+        GeyserResourcePackManifest manifest = FileUtils.loadJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), GeyserResourcePackManifest.class);
+        if (manifest == null || manifest.header() == null || manifest.header().uuid() == null) {
+            throw new IllegalArgumentException("Manifest is missing a pack UUID");
+        }
+        return manifest;
+    }
+
+    /**
+     * @return the modification time of the content key file next to the pack, or -1 if there is none
+     */
+    private static long keyLastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(ResourcePackLoader.contentKeyFile(path)).toMillis();
+        } catch (NoSuchFileException e) {
+            return -1;
+        } catch (IOException e) {
+            // Never matches a readable key file, so the pack is read again once the key file can be read
+            return -2;
+        }
+    }
+
+    /**
+     * @param manifest the raw manifest JSON, since versions are not written back in the format they are read in
+     */
+    record Entry(long size, long lastModified, long keyLastModified, String sha256, String manifest) {
+    }
+
+    record IndexFile(int version, @Nullable Map<String, Entry> packs) {
+    }
+}
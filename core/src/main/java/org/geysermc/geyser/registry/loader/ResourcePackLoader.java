@@ -27,6 +27,7 @@ package org.geysermc.geyser.registry.loader;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
@@ -45,11 +46,14 @@ import org.geysermc.geyser.pack.url.GeyserUrlPackCodec;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -62,6 +66,8 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -125,14 +131,28 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
         GeyserLoadResourcePacksEvent event = new GeyserLoadResourcePacksEvent(resourcePacks);
         GeyserImpl.getInstance().eventBus().fire(event);
 
-        for (Path path : event.resourcePacks()) {
-            try {
-                GeyserResourcePack pack = readPack(path).build();
-                packMap.put(pack.uuid(), ResourcePackHolder.of(pack));
-            } catch (Exception e) {
-                e.printStackTrace();
+        List<Path> packPaths = event.resourcePacks();
+        ResourcePackIndex index = ResourcePackIndex.load(indexFile());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(packPaths.size(), Runtime.getRuntime().availableProcessors())),
+            new DefaultThreadFactory("Geyser Resource Pack Loader", true));
+        try {
+            // Zip scanning and hashing is done in parallel; packs are still registered in the order they were listed
+            List<CompletableFuture<GeyserResourcePack>> futures = new ArrayList<>(packPaths.size());
+            for (Path path : packPaths) {
+                futures.add(CompletableFuture.supplyAsync(() -> index.read(path).build(), executor));
+            }
+            for (CompletableFuture<GeyserResourcePack> future : futures) {
+                try {
+                    GeyserResourcePack pack = future.join();
+                    packMap.put(pack.uuid(), ResourcePackHolder.of(pack));
+                } catch (CompletionException e) {
+                    e.getCause().printStackTrace();
+                }
             }
+        } finally {
+            executor.shutdown();
         }
+        index.save();
 
         // Load all remote resource packs from the config before firing the new event
         // TODO configurate
@@ -161,17 +181,7 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
         }
 
         ResourcePackManifest manifest = readManifest(path, path.getFileName().toString());
-        String contentKey;
-
-        try {
-            // Check if a file exists with the same name as the resource pack suffixed by .key,
-            // and set this as content key. (e.g. test.zip, key file would be test.zip.key)
-            Path keyFile = path.resolveSibling(path.getFileName().toString() + ".key");
-            contentKey = Files.exists(keyFile) ? Files.readString(keyFile, StandardCharsets.UTF_8) : "";
-        } catch (IOException e) {
-            GeyserImpl.getInstance().getLogger().error("Failed to read content key for resource pack " + path.getFileName(), e);
-            contentKey = "";
-        }
+        String contentKey = readContentKey(path);
 
         return new GeyserResourcePack.Builder(new GeyserPathPackCodec(path), manifest, contentKey);
     }
@@ -191,7 +201,21 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
     }
 
     private static ResourcePackManifest readManifest(Path path, String packLocation) throws IllegalArgumentException {
-        AtomicReference<GeyserResourcePackManifest> manifestReference = new AtomicReference<>();
+        String manifestJson = readManifestJson(path, packLocation);
+        try {
+            return FileUtils.loadJson(new ByteArrayInputStream(manifestJson.getBytes(StandardCharsets.UTF_8)), GeyserResourcePackManifest.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(GeyserLocale.getLocaleStringLog("geyser.resource_pack.broken", packLocation), e);
+        }
+    }
+
+    /**
+     * Scans the given pack and returns the raw JSON of its manifest.
+     *
+     * @throws IllegalArgumentException if the pack could not be read or does not contain a valid manifest
+     */
+    static String readManifestJson(Path path, String packLocation) throws IllegalArgumentException {
+        AtomicReference<String> manifestReference = new AtomicReference<>();
 
         try (ZipFile zip = new ZipFile(path.toFile());
              Stream<? extends ZipEntry> stream = zip.stream()) {
@@ -204,10 +228,11 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
                             " Please rename it to be shorter, or reduce the amount of folders needed to get to the file.");
                 }
                 if (name.contains("manifest.json")) {
-                    try {
-                        GeyserResourcePackManifest manifest = FileUtils.loadJson(zip.getInputStream(x), GeyserResourcePackManifest.class);
+                    try (InputStream inputStream = zip.getInputStream(x)) {
+                        byte[] json = inputStream.readAllBytes();
+                        GeyserResourcePackManifest manifest = FileUtils.loadJson(new ByteArrayInputStream(json), GeyserResourcePackManifest.class);
                         if (manifest.header().uuid() != null) {
-                            manifestReference.set(manifest);
+                            manifestReference.set(new String(json, StandardCharsets.UTF_8));
                         }
                     } catch (IOException e) {
                         e.printStackTrace();
@@ -215,7 +240,7 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
                 }
             });
 
-            GeyserResourcePackManifest manifest = manifestReference.get();
+            String manifest = manifestReference.get();
             if (manifest == null) {
                 throw new IllegalArgumentException(packLocation + " does not contain a valid pack_manifest.json or manifest.json");
             }
@@ -226,6 +251,29 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
         }
     }
 
+    /**
+     * Reads the content key stored next to the given pack, or returns an empty string if there is none.
+     */
+    static String readContentKey(Path path) {
+        try {
+            // Check if a file exists with the same name as the resource pack suffixed by .key,
+            // and set this as content key. (e.g. test.zip, key file would be test.zip.key)
+            Path keyFile = contentKeyFile(path);
+            return Files.exists(keyFile) ? Files.readString(keyFile, StandardCharsets.UTF_8) : "";
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().error("Failed to read content key for resource pack " + path.getFileName(), e);
+            return "";
+        }
+    }
+
+    static Path contentKeyFile(Path path) {
+        return path.resolveSibling(path.getFileName().toString() + ".key");
+    }
+
+    private static Path indexFile() {
+        return GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("resource_pack_index.json");
+    }
+
     private Map<UUID, ResourcePackHolder> loadRemotePacks() {
         GeyserImpl instance = GeyserImpl.getInstance();
         // Unable to make this a static variable, as the test would fail
@@ -369,7 +417,7 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
             }
 
             return new GeyserPathPackCodec(path);
-        });
+        }, BlockingIoExecutor.get());
     }
 
     public static void clear() {
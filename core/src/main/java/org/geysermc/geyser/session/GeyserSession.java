@@ -131,7 +131,6 @@ import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
 import org.geysermc.geyser.entity.type.BoatEntity;
 import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.entity.type.ItemFrameEntity;
-import org.geysermc.geyser.entity.type.Tickable;
 import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.entity.vehicle.ClientVehicle;
 import org.geysermc.geyser.erosion.AbstractGeyserboundPacketHandler;
@@ -164,10 +163,12 @@ import org.geysermc.geyser.session.cache.AdvancementsCache;
 import org.geysermc.geyser.session.cache.BookEditCache;
 import org.geysermc.geyser.session.cache.BundleCache;
 import org.geysermc.geyser.session.cache.ChunkCache;
+import org.geysermc.geyser.session.cache.ChunkIndexedMap;
 import org.geysermc.geyser.session.cache.EntityCache;
 import org.geysermc.geyser.session.cache.EntityEffectCache;
 import org.geysermc.geyser.session.cache.FormCache;
 import org.geysermc.geyser.session.cache.InputCache;
+import org.geysermc.geyser.session.cache.ItemTranslationCache;
 import org.geysermc.geyser.session.cache.LodestoneCache;
 import org.geysermc.geyser.session.cache.PistonCache;
 import org.geysermc.geyser.session.cache.PreferencesCache;
@@ -184,9 +185,12 @@ import org.geysermc.geyser.session.cache.waypoint.WaypointCache;
 import org.geysermc.geyser.session.dialog.BuiltInDialog;
 import org.geysermc.geyser.session.dialog.Dialog;
 import org.geysermc.geyser.session.dialog.DialogManager;
+import org.geysermc.geyser.session.tick.SessionTickDispatcher;
+import org.geysermc.geyser.session.tick.SessionTimeout;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.translator.inventory.InventoryTranslator;
 import org.geysermc.geyser.translator.text.MessageTranslator;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.geyser.util.ChunkUtils;
 import org.geysermc.geyser.util.EntityUtils;
 import org.geysermc.geyser.util.InventoryUtils;
@@ -241,7 +245,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -258,6 +261,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * If this is manually called, ensure that any exceptions are properly handled.
      */
     private final EventLoop tickEventLoop;
+    /**
+     * Runs this session's tick and delayed tasks, shared with all other sessions on {@link #tickEventLoop}.
+     */
+    private final SessionTickDispatcher tickDispatcher;
     @Setter
     private AuthData authData;
     private BedrockClientData clientData;
@@ -285,6 +292,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final EntityEffectCache effectCache;
     private final FormCache formCache;
     private final InputCache inputCache;
+    private final ItemTranslationCache itemTranslationCache;
     private final LodestoneCache lodestoneCache;
     private final PistonCache pistonCache;
     private final PreferencesCache preferencesCache;
@@ -358,7 +366,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final AtomicInteger itemNetId = new AtomicInteger(2);
 
     @Setter
-    private ScheduledFuture<?> containerOutputFuture;
+    private SessionTimeout containerOutputFuture;
 
     /**
      * Stores session collision
@@ -381,7 +389,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * A map of Vector3i positions to Java entities.
      * Used for translating Bedrock block actions to Java entity actions.
      */
-    private final Map<Vector3i, ItemFrameEntity> itemFrameCache = new Object2ObjectOpenHashMap<>();
+    private final ChunkIndexedMap<ItemFrameEntity> itemFrameCache = new ChunkIndexedMap<>();
 
     /**
      * A map of all players (and their heads) that are wearing a player head with a custom texture.
@@ -670,7 +678,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     /**
      * The thread that will run every game tick.
      */
-    private ScheduledFuture<?> tickThread = null;
+    private SessionTimeout tickThread = null;
 
     /**
      * The number of ticks that have elapsed since the start of this session
@@ -695,7 +703,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * Used to return players back to their vehicles if the server doesn't want them unmounting.
      */
     @Setter
-    private ScheduledFuture<?> mountVehicleScheduledFuture = null;
+    private SessionTimeout mountVehicleScheduledFuture = null;
 
     /**
      * A cache of IDs from ClientboundKeepAlivePackets that have been sent to the Bedrock client, but haven't been returned to the server.
@@ -734,10 +742,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     @Setter
     private boolean allowVibrantVisuals = true;
 
-    public GeyserSession(GeyserImpl geyser, BedrockServerSession bedrockServerSession, EventLoop tickEventLoop) {
+    public GeyserSession(GeyserImpl geyser, BedrockServerSession bedrockServerSession, SessionTickDispatcher tickDispatcher) {
         this.geyser = geyser;
-        this.upstream = new UpstreamSession(bedrockServerSession);
-        this.tickEventLoop = tickEventLoop;
+        this.upstream = new UpstreamSession(bedrockServerSession, tickDispatcher);
+        this.tickDispatcher = tickDispatcher;
+        this.tickEventLoop = tickDispatcher.getEventLoop();
 
         this.erosionHandler = new GeyserboundHandshakePacketHandler(this);
 
@@ -749,6 +758,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.effectCache = new EntityEffectCache();
         this.formCache = new FormCache(this);
         this.inputCache = new InputCache(this);
+        this.itemTranslationCache = new ItemTranslationCache(this);
         this.lodestoneCache = new LodestoneCache();
         this.pistonCache = new PistonCache(this);
         this.preferencesCache = new PreferencesCache(this);
@@ -927,7 +937,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
             );
             geyser.saveAuthChain(bedrockUsername(), GSON.toJson(step.toJson(response)));
             return Boolean.TRUE;
-        }).whenComplete((successful, ex) -> {
+        }, BlockingIoExecutor.get()).whenComplete((successful, ex) -> {
             if (this.closed) {
                 return;
             }
@@ -1044,7 +1054,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.remoteServer = this.geyser.platformType() == PlatformType.STANDALONE ? loginEvent.remoteServer() : remoteServer;
 
         // Start ticking
-        tickThread = tickEventLoop.scheduleAtFixedRate(this::tick, nanosecondsPerTick, nanosecondsPerTick, TimeUnit.NANOSECONDS);
+        tickThread = tickDispatcher.scheduleAtFixedRate(this::tick, nanosecondsPerTick);
 
         ClientSession downstream;
         if (geyser.getBootstrap().getSocketAddress() != null) {
@@ -1141,12 +1151,14 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         }
 
         if (tickThread != null) {
-            tickThread.cancel(false);
+            tickThread.cancel();
         }
 
         // Mark session as closed before cancelling erosion futures
         closed = true;
         erosionHandler.close();
+        // Releases this session's share of the global chunk cache counters
+        ensureInEventLoop(chunkCache::clear);
     }
 
     /**
@@ -1173,8 +1185,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * <p>
      * The task will not run if the session is closed.
      */
-    public ScheduledFuture<?> scheduleInEventLoop(Runnable runnable, long duration, TimeUnit timeUnit) {
-        return tickEventLoop.schedule(() -> {
+    public SessionTimeout scheduleInEventLoop(Runnable runnable, long duration, TimeUnit timeUnit) {
+        return tickDispatcher.schedule(() -> {
             executeRunnable(() -> {
                 if (!closed) {
                     runnable.run();
@@ -1184,13 +1196,13 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     }
 
     public void updateTickingState(float tickRate, boolean frozen) {
-        tickThread.cancel(false);
+        tickThread.cancel();
         this.tickingFrozen = frozen;
 
         tickRate = MathUtils.clamp(tickRate, 1.0f, 10000.0f);
         millisecondsPerTick = 1000.0f / tickRate;
         nanosecondsPerTick = MathUtils.ceil(1000000000.0f / tickRate);
-        tickThread = tickEventLoop.scheduleAtFixedRate(this::tick, nanosecondsPerTick, nanosecondsPerTick, TimeUnit.NANOSECONDS);
+        tickThread = tickDispatcher.scheduleAtFixedRate(this::tick, nanosecondsPerTick);
     }
 
     private void executeRunnable(Runnable runnable) {
@@ -1240,12 +1252,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
                 clientVehicle.getVehicleComponent().tickVehicle();
             }
 
-            for (Tickable entity : entityCache.getTickableEntities()) {
-                entity.drawTick();
-                if (gameShouldUpdate) {
-                    entity.tick();
-                }
-            }
+            entityCache.tickEntities(gameShouldUpdate);
 
             if (armAnimationTicks >= 0) {
                 // As of 1.18.2 Java Edition, it appears that the swing time is dynamically updated depending on the
@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.session;
 
+import io.netty.channel.Channel;
 import org.geysermc.floodgate.crypto.FloodgateCipher;
 import org.geysermc.floodgate.util.BedrockData;
 import org.geysermc.geyser.Constants;
@@ -38,6 +39,7 @@ import org.geysermc.geyser.skin.FloodgateSkinUploader;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.text.MinecraftLocale;
 import org.geysermc.geyser.translator.text.MessageTranslator;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.mcprotocollib.network.Session;
 import org.geysermc.mcprotocollib.network.event.session.ConnectedEvent;
 import org.geysermc.mcprotocollib.network.event.session.DisconnectedEvent;
@@ -51,6 +53,7 @@ import org.geysermc.mcprotocollib.protocol.packet.handshake.serverbound.ClientIn
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class GeyserSessionAdapter extends SessionAdapter {
 
@@ -156,8 +159,25 @@ public class GeyserSessionAdapter extends SessionAdapter {
             session.sendMessage("Loading your locale (en_us); if this isn't already downloaded, this may take some time");
         }
 
-        // Download and load the language for the player
-        MinecraftLocale.downloadAndLoadLocale(locale);
+        if (MinecraftLocale.isLocaleLoaded(locale)) {
+            return;
+        }
+
+        // Download and load the language for the player on the blocking I/O executor.
+        // Until then, stop reading from the server, so nothing during join is translated with the fallback locale.
+        Channel channel = session.getDownstream().getSession().getChannel();
+        if (channel != null) {
+            channel.config().setAutoRead(false);
+        }
+        CompletableFuture.runAsync(() -> MinecraftLocale.downloadAndLoadLocale(locale), BlockingIoExecutor.get())
+            .whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    geyser.getLogger().error("Unable to load locale " + locale + " for " + session.bedrockUsername(), throwable);
+                }
+                if (channel != null) {
+                    channel.config().setAutoRead(true);
+                }
+            });
     }
 
     @Override
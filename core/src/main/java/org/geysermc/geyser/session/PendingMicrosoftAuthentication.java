@@ -39,6 +39,7 @@ import net.raphimc.minecraftauth.util.MicrosoftConstants;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.GeyserLogger;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.geyser.util.MinecraftAuthLogger;
 
 import java.util.concurrent.CompletableFuture;
@@ -95,7 +96,7 @@ public class PendingMicrosoftAuthentication {
     }
 
     public class AuthenticationTask {
-        private static final Executor DELAYED_BY_ONE_SECOND = CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS);
+        private static final Executor DELAYED_BY_ONE_SECOND = CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS, BlockingIoExecutor.get());
 
         private final String userKey;
         private final int timeoutSec;
@@ -32,32 +32,150 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.cloudburstmc.protocol.bedrock.BedrockServerSession;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodecHelper;
 import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.CorrectPlayerMovePredictionPacket;
+import org.cloudburstmc.protocol.bedrock.packet.DisconnectPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MovePlayerPacket;
+import org.cloudburstmc.protocol.bedrock.packet.NetworkStackLatencyPacket;
+import org.cloudburstmc.protocol.bedrock.packet.TransferPacket;
 import org.geysermc.geyser.network.GeyserBedrockPeer;
+import org.geysermc.geyser.session.tick.SessionTickDispatcher;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RequiredArgsConstructor
 public class UpstreamSession {
+    /**
+     * Whether packets sent during a burst of translation (or a tick) should be held back and written as a single batch,
+     * so the burst costs one compression call and one RakNet frame instead of waiting for the protocol library's own tick.
+     */
+    private static final boolean BATCHING_ENABLED = Boolean.parseBoolean(System.getProperty("Geyser.UpstreamBatching", "true"));
+    /**
+     * How long queued packets may wait for more packets to join them before the batch is written.
+     */
+    private static final long FLUSH_DELAY_MILLIS = Long.getLong("Geyser.UpstreamFlushDelay", 5);
+    /**
+     * Latency-sensitive packets that are never held back, along with teleporting and resetting {@link MovePlayerPacket}s.
+     * Anything queued before them is flushed first to keep ordering.
+     */
+    private static final Set<Class<? extends BedrockPacket>> IMMEDIATE_PACKETS = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    static {
+        IMMEDIATE_PACKETS.add(NetworkStackLatencyPacket.class);
+        IMMEDIATE_PACKETS.add(CorrectPlayerMovePredictionPacket.class);
+        IMMEDIATE_PACKETS.add(DisconnectPacket.class);
+        IMMEDIATE_PACKETS.add(TransferPacket.class);
+    }
+
     @Getter private final BedrockServerSession session;
+    /**
+     * The session's tick dispatcher, which flushes queued packets shortly after the first one arrives
+     */
+    private final SessionTickDispatcher tickDispatcher;
     @Getter @Setter
     private boolean initialized = false;
     private Queue<BedrockPacket> postStartGamePackets = new ArrayDeque<>();
 
+    /**
+     * Enabled once the game has started; packets before that are sent straight through.
+     */
+    private volatile boolean batching = false;
+    private final Queue<BedrockPacket> pendingPackets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    /**
+     * Drain requests not yet served. Whoever raises it from zero drains for everyone, so packets are handed over by one thread at a time, in order.
+     */
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
     public void sendPacket(@NonNull BedrockPacket packet) {
-        if (!isClosed()) {
+        if (isClosed()) {
+            return;
+        }
+        if (!batching) {
             session.sendPacket(packet);
+            return;
+        }
+        if (isImmediate(packet)) {
+            sendPacketImmediately(packet);
+            return;
+        }
+
+        pendingPackets.add(packet);
+        if (flushScheduled.compareAndSet(false, true)) {
+            // Packets translated in the meantime (e.g. the rest of a chunk burst or a tick) join this batch
+            tickDispatcher.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
         }
     }
 
     public void sendPacketImmediately(@NonNull BedrockPacket packet) {
-        if (!isClosed()) {
+        if (isClosed()) {
+            return;
+        }
+        if (!batching) {
             session.sendPacketImmediately(packet);
+            return;
+        }
+        // Queued behind everything sent before it, and the drain ends with it, so the whole batch goes out right away
+        pendingPackets.add(packet);
+        drain();
+    }
+
+    /**
+     * Writes every packet queued so far as one batch.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        drain();
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            // Another thread is draining, and will pick up whatever we queued
+            return;
         }
+
+        int missed = 1;
+        do {
+            if (isClosed()) {
+                pendingPackets.clear();
+            } else {
+                // All but the last packet join the peer's queue; sending the last one immediately writes them all
+                // together as a single batch
+                BedrockPacket packet = pendingPackets.poll();
+                while (packet != null) {
+                    BedrockPacket next = pendingPackets.poll();
+                    if (next == null) {
+                        session.sendPacketImmediately(packet);
+                    } else {
+                        session.sendPacket(packet);
+                    }
+                    packet = next;
+                }
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private static boolean isImmediate(BedrockPacket packet) {
+        if (packet instanceof MovePlayerPacket movePlayerPacket) {
+            // Position corrections
+            return movePlayerPacket.getMode() == MovePlayerPacket.Mode.TELEPORT || movePlayerPacket.getMode() == MovePlayerPacket.Mode.RESET;
+        }
+        return IMMEDIATE_PACKETS.contains(packet.getClass());
     }
 
     public void disconnect(String reason) {
+        if (batching) {
+            drain();
+        }
         this.session.disconnect(reason);
     }
 
@@ -78,6 +196,7 @@ public class UpstreamSession {
             session.sendPacket(packet);
         }
         postStartGamePackets = null;
+        batching = BATCHING_ENABLED;
     }
 
     public boolean isClosed() {
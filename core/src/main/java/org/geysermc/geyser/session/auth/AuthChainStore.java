@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.auth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.GeyserLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Persists the saved Microsoft auth chains of Bedrock players.
+ * <p>
+ * Changes are collected for a short while and then appended to a journal, one JSON object per line, so a token refresh
+ * no longer rewrites every saved chain. Once the journal has grown larger than the amount of saved chains, it is folded
+ * back into the main file, which is replaced atomically. The main file keeps its previous format.
+ */
+public final class AuthChainStore {
+    private static final long WRITE_DELAY_MILLIS = 2000;
+    private static final int MIN_COMPACTION_ENTRIES = 64;
+    private static final TypeReference<Map<String, String>> TYPE = new TypeReference<>() { };
+
+    private final Path file;
+    private final Path journalFile;
+    private final ScheduledExecutorService scheduler;
+    private final GeyserLogger logger;
+
+    private final Map<String, String> chains = new ConcurrentHashMap<>();
+    /**
+     * Changes that have not been written to the journal yet
+     */
+    private final Map<String, String> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    /**
+     * Guarded by this
+     */
+    private int journalEntries;
+
+    private AuthChainStore(Path file, Path journalFile, ScheduledExecutorService scheduler, GeyserLogger logger) {
+        this.file = file;
+        this.journalFile = journalFile;
+        this.scheduler = scheduler;
+        this.logger = logger;
+    }
+
+    /**
+     * Loads all saved chains, dropping those of users for which logins should no longer be saved.
+     */
+    public static AuthChainStore load(Path file, Path journalFile, Predicate<String> validUser,
+                                      ScheduledExecutorService scheduler, GeyserLogger logger) {
+        AuthChainStore store = new AuthChainStore(file, journalFile, scheduler, logger);
+
+        if (Files.exists(file)) {
+            try {
+                Map<String, String> saved = GeyserImpl.JSON_MAPPER.readValue(file.toFile(), TYPE);
+                if (saved != null) {
+                    store.chains.putAll(saved);
+                }
+            } catch (IOException e) {
+                logger.error("Cannot load saved user tokens!", e);
+            }
+        }
+        int replayed = store.replayJournal();
+
+        boolean purged = store.chains.keySet().removeIf(validUser.negate());
+        if (replayed > 0 || purged) {
+            // Start from a clean file, which also purges now-unused names
+            scheduler.execute(store::compact);
+        }
+        return store;
+    }
+
+    public @Nullable String get(@NonNull String bedrockName) {
+        return chains.get(bedrockName);
+    }
+
+    public void put(@NonNull String bedrockName, @NonNull String authChain) {
+        if (Objects.equals(authChain, chains.put(bedrockName, authChain))) {
+            return;
+        }
+        pending.put(bedrockName, authChain);
+        if (writeScheduled.compareAndSet(false, true)) {
+            // Batch up the changes of everyone logging in around the same time
+            scheduler.schedule(this::flush, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Appends all pending changes to the journal, compacting it if it has grown too large.
+     */
+    public synchronized void flush() {
+        writeScheduled.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        int entries = 0;
+        for (Map.Entry<String, String> entry : pending.entrySet()) {
+            // Only drop the value we're writing; a newer chain put meanwhile stays for the next flush
+            pending.remove(entry.getKey(), entry.getValue());
+
+            ObjectNode line = GeyserImpl.JSON_MAPPER.createObjectNode();
+            line.put("user", entry.getKey());
+            line.put("chain", entry.getValue());
+            lines.append(line).append('\n');
+            entries++;
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            logger.error("Unable to write saved refresh tokens!", e);
+            // The full file still has to be written at some point
+            compact();
+            return;
+        }
+
+        journalEntries += entries;
+        if (journalEntries > Math.max(MIN_COMPACTION_ENTRIES, chains.size())) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes all chains to the main file and clears the journal.
+     */
+    public synchronized void compact() {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            GeyserImpl.JSON_MAPPER.writerFor(TYPE)
+                .withDefaultPrettyPrinter()
+                .writeValue(temporary.toFile(), Map.copyOf(chains));
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.deleteIfExists(journalFile);
+            journalEntries = 0;
+        } catch (IOException e) {
+            logger.error("Unable to write saved refresh tokens!", e);
+        }
+    }
+
+    /**
+     * Writes out everything that is still pending. Called on shutdown.
+     */
+    public void close() {
+        flush();
+    }
+
+    private int replayJournal() {
+        if (!Files.exists(journalFile)) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode entry;
+                try {
+                    entry = GeyserImpl.JSON_MAPPER.readTree(line);
+                } catch (IOException e) {
+                    // Most likely the last line, cut short by a crash
+                    logger.debug("Skipping unreadable saved token journal entry: " + e.getMessage());
+                    continue;
+                }
+                JsonNode user = entry.get("user");
+                JsonNode chain = entry.get("chain");
+                if (user != null && chain != null) {
+                    chains.put(user.asText(), chain.asText());
+                    replayed++;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Cannot load saved user tokens!", e);
+        }
+        journalEntries = replayed;
+        return replayed;
+    }
+}
@@ -27,16 +27,43 @@ package org.geysermc.geyser.session.cache;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import lombok.Getter;
 import lombok.Setter;
+import org.cloudburstmc.math.vector.Vector3f;
 import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.level.chunk.CompactChunkSection;
 import org.geysermc.geyser.level.chunk.GeyserChunk;
+import org.geysermc.geyser.level.chunk.SharedSectionStore;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 
+import java.util.concurrent.atomic.LongAdder;
+
 public class ChunkCache {
+    /**
+     * How much memory the chunks of one session may use before distant chunks are evicted. Disabled by default;
+     * evicted chunks are not sent again by the server until the player leaves and re-enters their range.
+     */
+    private static final long BUDGET_BYTES = Long.getLong("Geyser.ChunkCacheBudgetKiB", 0) * 1024;
+    /**
+     * Chunks within this many chunks of the player are never evicted, as collision and block lookups rely on them
+     */
+    private static final int RETAIN_RADIUS = Integer.getInteger("Geyser.ChunkCacheRetainRadius", 4);
+
+    private static final LongAdder GLOBAL_MEMORY_USAGE = new LongAdder();
+    private static final LongAdder GLOBAL_CHUNKS = new LongAdder();
+    private static final LongAdder GLOBAL_EVICTIONS = new LongAdder();
+
+    private final GeyserSession session;
     private final boolean cache;
     private final Long2ObjectMap<GeyserChunk> chunks;
+    /**
+     * Estimated heap used by the chunks of this session, in bytes. Does not include shared sections
+     */
+    @Getter
+    private long memoryUsage;
 
     @Setter
     private int minY;
@@ -44,6 +71,7 @@ public class ChunkCache {
     private int heightY;
 
     public ChunkCache(GeyserSession session) {
+        this.session = session;
         this.cache = !session.getGeyser().getWorldManager().hasOwnChunkCache(); // To prevent Spigot from initializing
         chunks = cache ? new Long2ObjectOpenHashMap<>() : null;
     }
@@ -55,7 +83,15 @@ public class ChunkCache {
 
         long chunkPosition = MathUtils.chunkPositionToLong(x, z);
         GeyserChunk geyserChunk = GeyserChunk.from(chunks);
-        this.chunks.put(chunkPosition, geyserChunk);
+        GeyserChunk previous = this.chunks.put(chunkPosition, geyserChunk);
+        if (previous != null) {
+            untrack(previous);
+        }
+        track(geyserChunk.memoryUsage(), 1);
+
+        if (BUDGET_BYTES > 0 && memoryUsage > BUDGET_BYTES) {
+            evictDistantChunks();
+        }
     }
 
     /**
@@ -81,21 +117,34 @@ public class ChunkCache {
             return;
         }
 
-        DataPalette palette = chunk.sections()[(y - minY) >> 4];
-        if (palette == null) {
+        CompactChunkSection section = chunk.sections()[(y - minY) >> 4];
+        long previousUsage;
+        if (section == null) {
             if (block != Block.JAVA_AIR_ID) {
                 // A previously empty chunk, which is no longer empty as a block has been added to it
-                palette = DataPalette.createForChunk();
-                // Fixes the chunk assuming that all blocks is the `block` variable we are updating. /shrug
-                palette.getPalette().stateToId(Block.JAVA_AIR_ID);
-                chunk.sections()[(y - minY) >> 4] = palette;
+                section = CompactChunkSection.single(Block.JAVA_AIR_ID);
+                chunk.sections()[(y - minY) >> 4] = section;
+                previousUsage = 0;
             } else {
                 // Nothing to update
                 return;
             }
+        } else if (section.isShared()) {
+            if (section.get(x & 0xF, y & 0xF, z & 0xF) == block) {
+                return;
+            }
+            // Copy on write; other sessions keep using the shared section
+            CompactChunkSection shared = section;
+            section = shared.copy();
+            chunk.sections()[(y - minY) >> 4] = section;
+            SharedSectionStore.release(shared);
+            previousUsage = 0;
+        } else {
+            previousUsage = section.memoryUsage();
         }
 
-        palette.set(x & 0xF, y & 0xF, z & 0xF, block);
+        section.set(x & 0xF, y & 0xF, z & 0xF, block);
+        track(section.memoryUsage() - previousUsage, 0);
     }
 
     public int getBlockAt(int x, int y, int z) {
@@ -113,7 +162,7 @@ public class ChunkCache {
             return Block.JAVA_AIR_ID;
         }
 
-        DataPalette chunk = column.sections()[(y - minY) >> 4];
+        CompactChunkSection chunk = column.sections()[(y - minY) >> 4];
         if (chunk != null) {
             return chunk.get(x & 0xF, y & 0xF, z & 0xF);
         }
@@ -127,7 +176,10 @@ public class ChunkCache {
         }
 
         long chunkPosition = MathUtils.chunkPositionToLong(chunkX, chunkZ);
-        chunks.remove(chunkPosition);
+        GeyserChunk removed = chunks.remove(chunkPosition);
+        if (removed != null) {
+            untrack(removed);
+        }
     }
 
     /**
@@ -140,9 +192,56 @@ public class ChunkCache {
             return;
         }
 
+        for (GeyserChunk chunk : chunks.values()) {
+            chunk.release();
+        }
+        track(-memoryUsage, -chunks.size());
         chunks.clear();
     }
 
+    /**
+     * Evicts the chunks furthest from the player, outside of {@link #RETAIN_RADIUS}, until this session is back
+     * under nine tenths of its budget.
+     */
+    private void evictDistantChunks() {
+        Vector3f position = session.getPlayerEntity().getPosition();
+        int playerChunkX = position.getFloorX() >> 4;
+        int playerChunkZ = position.getFloorZ() >> 4;
+
+        LongArrayList candidates = new LongArrayList();
+        for (long chunkPosition : chunks.keySet()) {
+            if (distance(chunkPosition, playerChunkX, playerChunkZ) > RETAIN_RADIUS) {
+                candidates.add(chunkPosition);
+            }
+        }
+        candidates.sort((a, b) -> Integer.compare(distance(b, playerChunkX, playerChunkZ), distance(a, playerChunkX, playerChunkZ)));
+
+        long target = BUDGET_BYTES - BUDGET_BYTES / 10;
+        for (int i = 0; i < candidates.size() && memoryUsage > target; i++) {
+            untrack(chunks.remove(candidates.getLong(i)));
+            GLOBAL_EVICTIONS.increment();
+        }
+    }
+
+    private static int distance(long chunkPosition, int chunkX, int chunkZ) {
+        int x = (int) (chunkPosition >> 32);
+        int z = (int) chunkPosition;
+        return Math.max(Math.abs(x - chunkX), Math.abs(z - chunkZ));
+    }
+
+    private void untrack(GeyserChunk chunk) {
+        chunk.release();
+        track(-chunk.memoryUsage(), -1);
+    }
+
+    private void track(long bytes, int chunks) {
+        memoryUsage += bytes;
+        GLOBAL_MEMORY_USAGE.add(bytes);
+        if (chunks != 0) {
+            GLOBAL_CHUNKS.add(chunks);
+        }
+    }
+
     public int getChunkMinY() {
         return minY >> 4;
     }
@@ -150,4 +249,19 @@ public class ChunkCache {
     public int getChunkHeightY() {
         return heightY >> 4;
     }
+
+    /**
+     * @return the estimated heap used by the chunk caches of all sessions, in bytes
+     */
+    public static long globalMemoryUsage() {
+        return GLOBAL_MEMORY_USAGE.sum();
+    }
+
+    public static long globalChunkCount() {
+        return GLOBAL_CHUNKS.sum();
+    }
+
+    public static long globalEvictions() {
+        return GLOBAL_EVICTIONS.sum();
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.geysermc.geyser.util.MathUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A map of block positions to session state anchored at that block (e.g. skulls or item frames),
+ * which is additionally indexed by chunk, so everything in one chunk can be found without scanning the whole map.
+ */
+public final class ChunkIndexedMap<V> {
+    private final Map<Vector3i, V> values = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<Map<Vector3i, V>> chunks = new Long2ObjectOpenHashMap<>();
+
+    public @Nullable V get(Vector3i position) {
+        return values.get(position);
+    }
+
+    public @Nullable V put(Vector3i position, V value) {
+        V previous = values.put(position, value);
+        addToChunk(position, value);
+        return previous;
+    }
+
+    public V computeIfAbsent(Vector3i position, Function<Vector3i, V> mappingFunction) {
+        V value = values.get(position);
+        if (value == null) {
+            value = mappingFunction.apply(position);
+            put(position, value);
+        }
+        return value;
+    }
+
+    public @Nullable V remove(Vector3i position) {
+        V value = values.remove(position);
+        if (value != null) {
+            removeFromChunk(position);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the position only if it is currently mapped to the given value.
+     */
+    public boolean remove(Vector3i position, V value) {
+        if (values.remove(position, value)) {
+            removeFromChunk(position);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return a read-only view of every value within the given chunk
+     */
+    public Collection<V> valuesInChunk(int chunkX, int chunkZ) {
+        Map<Vector3i, V> chunk = chunks.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        return chunk == null ? Collections.emptyList() : Collections.unmodifiableCollection(chunk.values());
+    }
+
+    /**
+     * @return a copy of every position within the given chunk, safe to modify this map while iterating
+     */
+    public List<Vector3i> positionsInChunk(int chunkX, int chunkZ) {
+        Map<Vector3i, V> chunk = chunks.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        return chunk == null ? Collections.emptyList() : new ArrayList<>(chunk.keySet());
+    }
+
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(values.values());
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public void clear() {
+        values.clear();
+        chunks.clear();
+    }
+
+    private void addToChunk(Vector3i position, V value) {
+        long key = chunkKey(position);
+        Map<Vector3i, V> chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = new Object2ObjectOpenHashMap<>(4);
+            chunks.put(key, chunk);
+        }
+        chunk.put(position, value);
+    }
+
+    private void removeFromChunk(Vector3i position) {
+        long key = chunkKey(position);
+        Map<Vector3i, V> chunk = chunks.get(key);
+        if (chunk != null) {
+            chunk.remove(position);
+            if (chunk.isEmpty()) {
+                chunks.remove(key);
+            }
+        }
+    }
+
+    private static long chunkKey(Vector3i position) {
+        return MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4);
+    }
+}
@@ -30,7 +30,6 @@ import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -53,9 +52,9 @@ public class EntityCache {
     @Getter
     private final Long2ObjectMap<Entity> entities = new Long2ObjectOpenHashMap<>();
     /**
-     * A list of all entities that must be ticked.
+     * All entities that must currently be ticked. Idle entities are left out until they are woken up again.
      */
-    private final List<Tickable> tickableEntities = new ObjectArrayList<>();
+    private final TickableSet tickableEntities = new TickableSet();
     private final Int2LongMap entityIdTranslations = new Int2LongOpenHashMap();
     private final Map<UUID, PlayerEntity> playerEntities = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, BossBar> bossBars = new Object2ObjectOpenHashMap<>();
@@ -76,9 +75,9 @@ public class EntityCache {
 
             entity.spawnEntity();
 
-            if (entity instanceof Tickable) {
+            if (entity instanceof Tickable tickable) {
                 // Start ticking it
-                tickableEntities.add((Tickable) entity);
+                tickableEntities.add(tickable);
             }
         }
     }
@@ -110,8 +109,8 @@ public class EntityCache {
         // don't track the entity anymore, now that it's removed
         session.getWorldCache().getScoreboard().entityRemoved(entity);
 
-        if (entity instanceof Tickable) {
-            tickableEntities.remove(entity);
+        if (entity instanceof Tickable tickable) {
+            tickableEntities.remove(tickable);
         }
     }
 
@@ -216,8 +215,23 @@ public class EntityCache {
         bossBars.values().forEach(BossBar::updateBossBar);
     }
 
-    public List<Tickable> getTickableEntities() {
-        return tickableEntities;
+    /**
+     * Ticks every entity that currently needs it.
+     *
+     * @param gameShouldUpdate false if the game is frozen, in which case only {@link Tickable#drawTick()} runs
+     */
+    public void tickEntities(boolean gameShouldUpdate) {
+        tickableEntities.tick(gameShouldUpdate);
+    }
+
+    /**
+     * Resumes ticking a spawned entity that went idle (see {@link Tickable#isTickIdle()}).
+     * Does nothing if the entity isn't tickable, or isn't cached.
+     */
+    public void wakeTickable(Entity entity) {
+        if (entity instanceof Tickable tickable && entities.get(entity.getGeyserId()) == entity) {
+            tickableEntities.add(tickable);
+        }
     }
 
     public void removeAllBossBars() {
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Remembers translated Bedrock items, so identical stacks (think a chest full of the same enchanted book)
+ * only go through the item translator once.
+ * <p>
+ * Entries are keyed by the Java item, the Bedrock mapping and the item's component patch. Everything else the
+ * translation reads from the session - locale, advanced tooltips and the player's base attack attributes used in
+ * attribute lore - is checked on every lookup, and the whole cache is dropped when it changes. Registry and tag
+ * updates drop it as well.
+ */
+public final class ItemTranslationCache {
+    private static final int MAX_ENTRIES = 512;
+
+    private final GeyserSession session;
+    private final Cache<Key, ItemData> items = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumSize(MAX_ENTRIES)
+            .recordStats()
+            .build();
+
+    private String locale;
+    private boolean advancedTooltips;
+    private float attackDamage;
+    private float attackSpeed;
+
+    public ItemTranslationCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * @param count the amount to apply to the returned item; it is not part of the key
+     * @param translator builds the item on a cache miss
+     * @return a builder for the translated item, which may be freely modified
+     */
+    public ItemData.Builder translate(int javaId, int bedrockId, int count, @Nullable DataComponents components, Supplier<ItemData.Builder> translator) {
+        if (components != null && components.getDataComponents().containsKey(DataComponentTypes.LODESTONE_TRACKER)) {
+            // Translating these registers a tracking id with the lodestone cache
+            return translator.get();
+        }
+        checkContext();
+
+        Key key = new Key(javaId, bedrockId, components);
+        ItemData cached = items.getIfPresent(key);
+        if (cached != null) {
+            return cached.toBuilder().count(count);
+        }
+
+        ItemData.Builder builder = translator.get();
+        // Components may be modified after translation, so the key needs its own copy
+        items.put(new Key(javaId, bedrockId, components == null ? null : components.clone()), builder.build());
+        return builder;
+    }
+
+    public void invalidate() {
+        items.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return items.stats();
+    }
+
+    private void checkContext() {
+        String locale = session.locale();
+        boolean advancedTooltips = session.isAdvancedTooltips();
+        SessionPlayerEntity player = session.getPlayerEntity();
+        float attackDamage = player.attributeOrDefault(GeyserAttributeType.ATTACK_DAMAGE);
+        float attackSpeed = player.attributeOrDefault(GeyserAttributeType.ATTACK_SPEED);
+
+        if (!Objects.equals(locale, this.locale) || advancedTooltips != this.advancedTooltips
+                || attackDamage != this.attackDamage || attackSpeed != this.attackSpeed) {
+            invalidate();
+            this.locale = locale;
+            this.advancedTooltips = advancedTooltips;
+            this.attackDamage = attackDamage;
+            this.attackSpeed = attackSpeed;
+        }
+    }
+
+    private record Key(int javaId, int bedrockId, @Nullable DataComponents components) {
+    }
+}
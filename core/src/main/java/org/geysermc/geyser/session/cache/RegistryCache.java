@@ -25,11 +25,14 @@
 
 package org.geysermc.geyser.session.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.nbt.NbtType;
 import org.geysermc.geyser.GeyserImpl;
@@ -75,20 +78,28 @@ import java.util.Map;
 public final class RegistryCache {
     private static final Map<JavaRegistryKey<?>, Map<Key, NbtMap>> DEFAULTS;
     private static final Map<JavaRegistryKey<?>, RegistryLoader<?>> READERS = new HashMap<>();
+    private static final Map<JavaRegistryKey<?>, SharingScope> SCOPES = new HashMap<>();
+    /**
+     * Most players on the same server receive identical registries. Parsed registries are shared between sessions for as
+     * long as any session uses them, keyed by the registry contents and whatever else the parsed values depend on.
+     */
+    private static final Cache<SharedRegistryKey, JavaRegistry<?>> SHARED_REGISTRIES = CacheBuilder.newBuilder()
+        .weakValues()
+        .build();
 
     static {
         register(JavaRegistries.CHAT_TYPE, ChatDecoration::readChatType);
         register(JavaRegistries.DIMENSION_TYPE, JavaDimension::read);
         register(JavaRegistries.BIOME, BiomeTranslator::loadServerBiome);
-        register(JavaRegistries.ENCHANTMENT, Enchantment::read);
+        register(JavaRegistries.ENCHANTMENT, Enchantment::read, SharingScope.LOCALE);
         register(JavaRegistries.BANNER_PATTERN, context -> BannerPattern.getByJavaIdentifier(context.id()));
-        register(JavaRegistries.INSTRUMENT, GeyserInstrument::read);
-        register(JavaRegistries.JUKEBOX_SONG, JukeboxSong::read);
+        register(JavaRegistries.INSTRUMENT, GeyserInstrument::read, SharingScope.LOCALE);
+        register(JavaRegistries.JUKEBOX_SONG, JukeboxSong::read, SharingScope.LOCALE);
         register(JavaRegistries.PAINTING_VARIANT, context -> PaintingType.getByName(context.id()));
-        register(JavaRegistries.TRIM_MATERIAL, TrimRecipe::readTrimMaterial);
-        register(JavaRegistries.TRIM_PATTERN, TrimRecipe::readTrimPattern);
+        register(JavaRegistries.TRIM_MATERIAL, TrimRecipe::readTrimMaterial, SharingScope.PROTOCOL_VERSION);
+        register(JavaRegistries.TRIM_PATTERN, TrimRecipe::readTrimPattern, SharingScope.PROTOCOL_VERSION);
         register(JavaRegistries.DAMAGE_TYPE, RegistryReader.UNIT);
-        register(JavaRegistries.DIALOG, Dialog::readDialog);
+        register(JavaRegistries.DIALOG, Dialog::readDialog, SharingScope.SESSION);
 
         register(JavaRegistries.CAT_VARIANT, VariantHolder.reader(CatEntity.BuiltInVariant.class, CatEntity.BuiltInVariant.BLACK));
         register(JavaRegistries.FROG_VARIANT, VariantHolder.reader(FrogEntity.BuiltInVariant.class, FrogEntity.BuiltInVariant.TEMPERATE));
@@ -138,7 +149,9 @@ public final class RegistryCache {
             RegistryLoader reader = READERS.get(registryKey);
             if (reader != null) {
                 try {
-                    reader.load(session, registries.get(registryKey), packet.getEntries());
+                    registries.put(registryKey, loadShared(registryKey, reader, packet.getEntries()));
+                    // Item translations may have used the old registry contents, such as enchantment names
+                    session.getItemTranslationCache().invalidate();
                 } catch (Exception exception) {
                     GeyserImpl.getInstance().getLogger().error("Failed parsing registry entries for " + registryKey + "!", exception);
                 }
@@ -150,6 +163,25 @@ public final class RegistryCache {
         }
     }
 
+    private JavaRegistry<?> loadShared(JavaRegistryKey<?> registryKey, RegistryLoader<?> reader, List<RegistryEntry> entries) {
+        Object scope = SCOPES.get(registryKey).key(session);
+        if (scope == null) {
+            return reader.load(session, entries);
+        }
+
+        SharedRegistryKey key = new SharedRegistryKey(registryKey, scope, entries);
+        JavaRegistry<?> registry = SHARED_REGISTRIES.getIfPresent(key);
+        if (registry == null) {
+            registry = reader.load(session, entries);
+            JavaRegistry<?> existing = SHARED_REGISTRIES.asMap().putIfAbsent(key, registry);
+            if (existing != null) {
+                // Another session parsed the same contents in the meantime
+                registry = existing;
+            }
+        }
+        return registry;
+    }
+
     public <T> JavaRegistry<T> registry(JavaRegistryKey<T> registryKey) {
         if (!registries.containsKey(registryKey)) {
             throw new IllegalArgumentException("The given registry is not data-driven");
@@ -163,7 +195,15 @@ public final class RegistryCache {
      * @param <T> the class that represents these entries.
      */
     private static <T> void register(JavaRegistryKey<T> registryKey, RegistryReader<T> reader) {
-        register(registryKey, (session, registry, entries) -> {
+        register(registryKey, reader, SharingScope.GLOBAL);
+    }
+
+    /**
+     * @param scope what the values returned by the reader depend on, besides the registry contents
+     */
+    private static <T> void register(JavaRegistryKey<T> registryKey, RegistryReader<T> reader, SharingScope scope) {
+        SCOPES.put(registryKey, scope);
+        register(registryKey, (session, entries) -> {
             Map<Key, NbtMap> localRegistry = null;
 
             // Clear each local cache every time a new registry entry is given to us
@@ -195,7 +235,10 @@ public final class RegistryCache {
                 }
                 builder.add(i, new RegistryEntryData<>(i, entry.getId(), cacheEntry));
             }
+            // Registries may be shared between sessions, and so must not be modified once loaded
+            JavaRegistry<T> registry = new SimpleJavaRegistry<>();
             registry.reset(builder);
+            return registry;
         });
     }
 
@@ -218,6 +261,56 @@ public final class RegistryCache {
     @FunctionalInterface
     private interface RegistryLoader<T> {
 
-        void load(GeyserSession session, JavaRegistry<T> registry, List<RegistryEntry> entries);
+        JavaRegistry<T> load(GeyserSession session, List<RegistryEntry> entries);
+    }
+
+    private enum SharingScope {
+        /**
+         * Values only depend on the registry contents
+         */
+        GLOBAL {
+            @Override
+            Object key(GeyserSession session) {
+                return Boolean.TRUE;
+            }
+        },
+        /**
+         * Values contain text translated into the session's locale
+         */
+        LOCALE {
+            @Override
+            Object key(GeyserSession session) {
+                return session.locale();
+            }
+        },
+        /**
+         * Values reference Bedrock item mappings, which differ between Bedrock versions
+         */
+        PROTOCOL_VERSION {
+            @Override
+            Object key(GeyserSession session) {
+                return session.protocolVersion();
+            }
+        },
+        /**
+         * Values reference the session itself, and are never shared
+         */
+        SESSION {
+            @Override
+            Object key(GeyserSession session) {
+                return null;
+            }
+        };
+
+        /**
+         * @return the part of the sharing key that depends on the session, or null if values cannot be shared
+         */
+        abstract @Nullable Object key(GeyserSession session);
+    }
+
+    /**
+     * Entries are compared by content; {@link NbtMap} caches its hash code, so hashing identical packets stays cheap.
+     */
+    private record SharedRegistryKey(JavaRegistryKey<?> registry, Object scope, List<RegistryEntry> entries) {
     }
 }
@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.session.cache;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -54,7 +53,7 @@ public class SkullCache {
     private final int skullRenderDistanceSquared;
 
     @Getter
-    private final Map<Vector3i, Skull> skulls = new Object2ObjectOpenHashMap<>();
+    private final ChunkIndexedMap<Skull> skulls = new ChunkIndexedMap<>();
 
     private final List<Skull> inRangeSkulls = new ArrayList<>();
 
@@ -141,6 +140,15 @@ public class SkullCache {
         }
     }
 
+    /**
+     * Removes every skull within the given chunk, such as when it is unloaded.
+     */
+    public void removeSkullsInChunk(int chunkX, int chunkZ) {
+        for (Vector3i position : skulls.positionsInChunk(chunkX, chunkZ)) {
+            removeSkull(position);
+        }
+    }
+
     public Skull updateSkull(Vector3i position, BlockState blockState) {
         Skull skull = skulls.get(position);
         if (skull != null) {
@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.session.cache;
 
-import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -39,6 +38,7 @@ import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.registry.JavaRegistryKey;
 import org.geysermc.geyser.session.cache.tags.GeyserHolderSet;
 import org.geysermc.geyser.session.cache.tags.Tag;
+import org.geysermc.geyser.session.cache.tags.TagIndex;
 import org.geysermc.geyser.util.MinecraftKey;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.HolderSet;
 import org.geysermc.mcprotocollib.protocol.packet.common.clientbound.ClientboundUpdateTagsPacket;
@@ -56,7 +56,7 @@ import java.util.Map;
 @ParametersAreNonnullByDefault
 public final class TagCache {
     private final GeyserSession session;
-    private final Map<Tag<?>, int[]> tags = new Object2ObjectOpenHashMap<>();
+    private TagIndex tags = TagIndex.EMPTY;
 
     public TagCache(GeyserSession session) {
         this.session = session;
@@ -66,7 +66,7 @@ public final class TagCache {
         Map<Key, Map<Key, int[]>> allTags = packet.getTags();
         GeyserLogger logger = session.getGeyser().getLogger();
 
-        this.tags.clear();
+        Map<Tag<?>, int[]> tags = new Object2ObjectOpenHashMap<>();
 
         for (Key registryKey : allTags.keySet()) {
             JavaRegistryKey<?> registry = JavaRegistries.fromKey(registryKey);
@@ -94,23 +94,27 @@ public final class TagCache {
                 }
             }
 
-            loadTags(registryTags, registry, registry == JavaRegistries.ITEM);
+            loadTags(tags, registryTags, registry, registry == JavaRegistries.ITEM);
         }
+
+        // Identical for every player on the same server, so this is shared between sessions
+        this.tags = TagIndex.intern(tags);
+        session.getItemTranslationCache().invalidate();
     }
 
-    private void loadTags(Map<Key, int[]> packetTags, JavaRegistryKey<?> registry, boolean sort) {
+    private static void loadTags(Map<Tag<?>, int[]> tags, Map<Key, int[]> packetTags, JavaRegistryKey<?> registry, boolean sort) {
         for (Map.Entry<Key, int[]> tag : packetTags.entrySet()) {
             int[] value = tag.getValue();
             if (sort) {
                 // Used in RecipeBookAddTranslator
                 Arrays.sort(value);
             }
-            this.tags.put(new Tag<>(registry, tag.getKey()), value);
+            tags.put(new Tag<>(registry, tag.getKey()), value);
         }
     }
 
     public <T> boolean is(Tag<T> tag, T object) {
-        return contains(getRaw(tag), tag.registry().networkId(session, object));
+        return tags.contains(tag, tag.registry().networkId(session, object));
     }
 
     /**
@@ -127,7 +131,11 @@ public final class TagCache {
         if (holderSet == null || object == null) {
             return false;
         }
-        return contains(holderSet.resolveRaw(this), holderSet.getRegistry().networkId(session, object));
+        int id = holderSet.getRegistry().networkId(session, object);
+        if (holderSet.getTag() != null && holderSet.getHolders() == null && holderSet.getInline() == null) {
+            return tags.contains(holderSet.getTag(), id);
+        }
+        return contains(holderSet.resolveRaw(this), id);
     }
 
     /**
@@ -139,6 +147,14 @@ public final class TagCache {
             return false;
         }
 
+        if (holderSet.getHolders() == null && holderSet.getLocation() != null) {
+            Key key = holderSet.getLocation();
+            if (key.value().startsWith("#")) {
+                key = Key.key(key.namespace(), key.value().substring(1));
+            }
+            return tags.contains(new Tag<>(registry, key), id);
+        }
+
         int[] entries = holderSet.resolve(key -> {
             if (key.value().startsWith("#")) {
                 key = Key.key(key.namespace(), key.value().substring(1));
@@ -166,7 +182,7 @@ public final class TagCache {
      * @return the network IDs in the given tag. This can be an empty list.
      */
     public int[] getRaw(Tag<?> tag) {
-        return this.tags.getOrDefault(tag, IntArrays.EMPTY_ARRAY);
+        return this.tags.get(tag);
     }
 
     /**
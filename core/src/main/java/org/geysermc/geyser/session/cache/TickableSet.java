@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.geysermc.geyser.entity.type.Tickable;
+
+import java.util.Arrays;
+
+/**
+ * An unordered set of {@link Tickable}s with O(1) add and remove.
+ * <p>
+ * Elements are kept in a dense array alongside an index map; removal swaps the last element into the freed slot,
+ * so iteration order is not insertion order. While the set is being ticked, removed slots are cleared instead and
+ * compacted once the tick finishes, so that entities may be spawned, removed or put to sleep from within their own tick.
+ * An element that is removed and added again during the same tick goes back into its old slot, so it is ticked at most once.
+ */
+final class TickableSet {
+    private final Reference2IntOpenHashMap<Tickable> indices = new Reference2IntOpenHashMap<>();
+    /**
+     * Slots cleared during the current tick, by the element that left them
+     */
+    private final Reference2IntOpenHashMap<Tickable> vacated = new Reference2IntOpenHashMap<>();
+    private Tickable[] elements = new Tickable[16];
+    private int size;
+    private boolean ticking;
+    private boolean hasHoles;
+
+    TickableSet() {
+        indices.defaultReturnValue(-1);
+        vacated.defaultReturnValue(-1);
+    }
+
+    boolean add(Tickable tickable) {
+        if (indices.containsKey(tickable)) {
+            return false;
+        }
+        if (ticking) {
+            int previous = vacated.removeInt(tickable);
+            if (previous != -1) {
+                elements[previous] = tickable;
+                indices.put(tickable, previous);
+                return true;
+            }
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size] = tickable;
+        indices.put(tickable, size++);
+        return true;
+    }
+
+    boolean remove(Tickable tickable) {
+        int index = indices.removeInt(tickable);
+        if (index == -1) {
+            return false;
+        }
+        if (ticking) {
+            elements[index] = null;
+            vacated.put(tickable, index);
+            hasHoles = true;
+            return true;
+        }
+        int last = --size;
+        if (index != last) {
+            Tickable moved = elements[last];
+            elements[index] = moved;
+            indices.put(moved, index);
+        }
+        elements[last] = null;
+        return true;
+    }
+
+    int size() {
+        return indices.size();
+    }
+
+    /**
+     * Ticks every element, and removes those that report themselves as idle afterwards.
+     *
+     * @param gameShouldUpdate whether {@link Tickable#tick()} should run, or only {@link Tickable#drawTick()}
+     */
+    void tick(boolean gameShouldUpdate) {
+        ticking = true;
+        try {
+            // Elements added during the loop are appended, and are ticked as well
+            for (int i = 0; i < size; i++) {
+                Tickable tickable = elements[i];
+                if (tickable == null) {
+                    continue;
+                }
+                tickable.drawTick();
+                if (gameShouldUpdate) {
+                    tickable.tick();
+                }
+                if (elements[i] == tickable && tickable.isTickIdle()) {
+                    remove(tickable);
+                }
+            }
+        } finally {
+            ticking = false;
+            vacated.clear();
+            if (hasHoles) {
+                compact();
+            }
+        }
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int i = 0; i < size; i++) {
+            Tickable tickable = elements[i];
+            if (tickable != null) {
+                if (i != target) {
+                    elements[target] = tickable;
+                    indices.put(tickable, target);
+                }
+                target++;
+            }
+        }
+        Arrays.fill(elements, target, size, null);
+        size = target;
+        hasHoles = false;
+    }
+}
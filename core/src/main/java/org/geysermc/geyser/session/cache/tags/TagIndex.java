@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache.tags;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable set of tags, as sent by a server in one update tags packet. Besides the network IDs of each tag, a bitset is kept
+ * per tag so membership checks are constant time.
+ * <p>
+ * Every player on the same backend receives the same tags, so indexes are interned by content; sessions with identical tags
+ * share a single instance. Interned indexes are weakly referenced and disappear once no session uses them anymore.
+ */
+public final class TagIndex {
+    public static final TagIndex EMPTY = new TagIndex(Map.of());
+
+    private static final Interner<TagIndex> INTERNER = Interners.newWeakInterner();
+
+    private final Map<Tag<?>, int[]> tags;
+    private final int hash;
+    /**
+     * Only built once an instance has been interned, so duplicate candidates stay cheap to discard
+     */
+    private volatile Map<Tag<?>, long[]> bitsets;
+
+    private TagIndex(Map<Tag<?>, int[]> tags) {
+        this.tags = tags;
+        int hash = 0;
+        for (Map.Entry<Tag<?>, int[]> entry : tags.entrySet()) {
+            // Order-independent, as the order of tags in the packet isn't guaranteed
+            hash += entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue());
+        }
+        this.hash = hash;
+    }
+
+    /**
+     * @param tags the network IDs of each tag. The map and its arrays must not be modified afterwards.
+     * @return the shared index with these contents
+     */
+    public static TagIndex intern(Map<Tag<?>, int[]> tags) {
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        TagIndex index = INTERNER.intern(new TagIndex(tags));
+        index.ensureBitsets();
+        return index;
+    }
+
+    /**
+     * @return the network IDs in the given tag, in the order they were sent. Must not be modified.
+     */
+    public int[] get(Tag<?> tag) {
+        return tags.getOrDefault(tag, IntArrays.EMPTY_ARRAY);
+    }
+
+    public boolean contains(Tag<?> tag, int id) {
+        if (id < 0) {
+            return false;
+        }
+        long[] bits = ensureBitsets().get(tag);
+        if (bits == null) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+
+    private Map<Tag<?>, long[]> ensureBitsets() {
+        Map<Tag<?>, long[]> bitsets = this.bitsets;
+        if (bitsets == null) {
+            synchronized (this) {
+                bitsets = this.bitsets;
+                if (bitsets == null) {
+                    bitsets = new Object2ObjectOpenHashMap<>(tags.size());
+                    for (Map.Entry<Tag<?>, int[]> entry : tags.entrySet()) {
+                        bitsets.put(entry.getKey(), toBitset(entry.getValue()));
+                    }
+                    this.bitsets = bitsets;
+                }
+            }
+        }
+        return bitsets;
+    }
+
+    private static long[] toBitset(int[] ids) {
+        int max = -1;
+        for (int id : ids) {
+            max = Math.max(max, id);
+        }
+        if (max < 0) {
+            return new long[0];
+        }
+        long[] bits = new long[(max >>> 6) + 1];
+        for (int id : ids) {
+            if (id >= 0) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TagIndex other) || hash != other.hash || tags.size() != other.tags.size()) {
+            return false;
+        }
+        for (Map.Entry<Tag<?>, int[]> entry : tags.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), other.tags.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
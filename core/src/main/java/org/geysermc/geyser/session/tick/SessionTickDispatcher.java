@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.tick;
+
+import io.netty.channel.EventLoop;
+import lombok.Getter;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel bound to a single event loop. All sessions pinned to the loop share one Netty timer,
+ * instead of each session keeping its own tick task and delayed tasks in the loop's scheduled task heap.
+ * <p>
+ * The wheel is only ever modified on its event loop; scheduling from other threads hops onto the loop first.
+ * The underlying timer only runs while there is at least one pending timeout.
+ * <p>
+ * Periodic tasks faster than the wheel's resolution (such as very high tick rates) would be quantized and capped by
+ * the wheel, so those get a dedicated {@link EventLoop#scheduleAtFixedRate} instead.
+ */
+public final class SessionTickDispatcher implements Runnable {
+    static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(Math.max(1, Integer.getInteger("Geyser.TickWheelResolution", 5)));
+    static final int WHEEL_SIZE = 512; // must be a power of two; at 5ms, one rotation covers 2.56s
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    /**
+     * How many missed periods a periodic task may catch up on at once before the schedule is reset.
+     * Matches the spirit of {@link EventLoop#scheduleAtFixedRate}, without letting a stalled loop spiral.
+     */
+    private static final int MAX_CATCH_UP = 10;
+
+    @Getter
+    private final EventLoop eventLoop;
+    private final SessionTimeout[] wheel = new SessionTimeout[WHEEL_SIZE];
+    private final long startNanos = System.nanoTime();
+    /**
+     * The next wheel tick that has not yet been processed
+     */
+    private long currentTick;
+    private int size;
+    private ScheduledFuture<?> timer;
+
+    public SessionTickDispatcher(EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Runs the task once on this dispatcher's event loop after the given delay.
+     */
+    public SessionTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+        SessionTimeout timeout = new SessionTimeout(task, System.nanoTime() + unit.toNanos(Math.max(0, delay)), 0);
+        add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Runs the task on this dispatcher's event loop every {@code periodNanos}, starting after one period.
+     */
+    public SessionTimeout scheduleAtFixedRate(Runnable task, long periodNanos) {
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + periodNanos);
+        }
+        SessionTimeout timeout = new SessionTimeout(task, System.nanoTime() + periodNanos, periodNanos);
+        if (periodNanos < RESOLUTION_NANOS) {
+            timeout.setFuture(eventLoop.scheduleAtFixedRate(() -> {
+                if (timeout.isCancelled()) {
+                    timeout.cancel();
+                } else {
+                    runSafely(timeout);
+                }
+            }, periodNanos, periodNanos, TimeUnit.NANOSECONDS));
+            return timeout;
+        }
+        add(timeout);
+        return timeout;
+    }
+
+    private void add(SessionTimeout timeout) {
+        if (eventLoop.inEventLoop()) {
+            insert(timeout);
+        } else {
+            eventLoop.execute(() -> insert(timeout));
+        }
+    }
+
+    private void insert(SessionTimeout timeout) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        if (timer == null) {
+            // Nothing was pending, so the wheel was idle - fast-forward it to now
+            currentTick = tickFor(System.nanoTime());
+            timer = eventLoop.scheduleAtFixedRate(this, RESOLUTION_NANOS, RESOLUTION_NANOS, TimeUnit.NANOSECONDS);
+        }
+        // Never insert into a slot we already passed (or are currently processing)
+        long tick = Math.max(ceilTickFor(timeout.deadlineNanos), currentTick);
+        timeout.deadlineTick = tick;
+        int slot = (int) (tick & WHEEL_MASK);
+        timeout.next = wheel[slot];
+        wheel[slot] = timeout;
+        size++;
+    }
+
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+        long targetTick = tickFor(now);
+        while (currentTick <= targetTick) {
+            int slot = (int) (currentTick & WHEEL_MASK);
+            SessionTimeout timeout = wheel[slot];
+            // Detach the slot first, so tasks may freely schedule new timeouts (including into this slot)
+            wheel[slot] = null;
+            long processingTick = currentTick++;
+
+            while (timeout != null) {
+                SessionTimeout next = timeout.next;
+                timeout.next = null;
+                size--;
+
+                if (timeout.isCancelled()) {
+                    timeout = next;
+                    continue;
+                }
+
+                if (timeout.deadlineTick > processingTick) {
+                    // Belongs to a later rotation of the wheel
+                    timeout.next = wheel[slot];
+                    wheel[slot] = timeout;
+                    size++;
+                } else if (timeout.periodNanos == 0) {
+                    timeout.markExpired();
+                    runSafely(timeout);
+                } else {
+                    runPeriodic(timeout, now);
+                }
+                timeout = next;
+            }
+        }
+
+        if (size == 0 && timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+
+    private void runPeriodic(SessionTimeout timeout, long now) {
+        int runs = 0;
+        do {
+            runSafely(timeout);
+            timeout.deadlineNanos += timeout.periodNanos;
+        } while (timeout.deadlineNanos <= now && ++runs < MAX_CATCH_UP && !timeout.isCancelled());
+
+        if (timeout.deadlineNanos <= now) {
+            // Too far behind; drop the missed periods rather than running them in a burst
+            timeout.deadlineNanos = now + timeout.periodNanos;
+        }
+        insert(timeout);
+    }
+
+    private void runSafely(SessionTimeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (Throwable t) {
+            GeyserImpl.getInstance().getLogger().error("Error thrown in a scheduled session task!", t);
+        }
+    }
+
+    private long tickFor(long nanos) {
+        return floorTicks(nanos - startNanos);
+    }
+
+    private long ceilTickFor(long nanos) {
+        return ceilTicks(nanos - startNanos);
+    }
+
+    /**
+     * @return the last wheel tick that has started after this much time
+     */
+    static long floorTicks(long elapsedNanos) {
+        return elapsedNanos / RESOLUTION_NANOS;
+    }
+
+    /**
+     * @return the first wheel tick that starts no earlier than this much time, so timeouts never run early
+     */
+    static long ceilTicks(long elapsedNanos) {
+        return (elapsedNanos + RESOLUTION_NANOS - 1) / RESOLUTION_NANOS;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.tick;
+
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A task scheduled on a {@link SessionTickDispatcher}. Cancelling is cheap and safe from any thread;
+ * cancelled timeouts are dropped the next time their wheel slot is visited.
+ */
+public final class SessionTimeout {
+    final Runnable task;
+    /**
+     * Zero for one-shot timeouts, otherwise the period in nanoseconds
+     */
+    final long periodNanos;
+    long deadlineNanos;
+    long deadlineTick;
+    SessionTimeout next;
+
+    private volatile boolean cancelled;
+    private volatile boolean expired;
+    /**
+     * Set for periodic tasks faster than the wheel, which run on their own event loop schedule
+     */
+    private volatile ScheduledFuture<?> future;
+
+    SessionTimeout(Runnable task, long deadlineNanos, long periodNanos) {
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+        this.periodNanos = periodNanos;
+    }
+
+    /**
+     * Prevents this task from running again. Has no effect if a one-shot task already ran.
+     */
+    public void cancel() {
+        this.cancelled = true;
+        ScheduledFuture<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return true if this one-shot task has run, or this periodic task has been cancelled
+     */
+    public boolean isDone() {
+        return expired || cancelled;
+    }
+
+    void setFuture(ScheduledFuture<?> future) {
+        this.future = future;
+        if (cancelled) {
+            future.cancel(false);
+        }
+    }
+
+    void markExpired() {
+        this.expired = true;
+    }
+}
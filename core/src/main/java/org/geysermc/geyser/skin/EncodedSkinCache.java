@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodecHelper;
+import org.cloudburstmc.protocol.bedrock.data.skin.SerializedSkin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the wire encoding of skins shared through {@link SkinManager}, so a skin shown to many players is only encoded
+ * once per protocol version instead of once per recipient. Only registered skins are cached; they are held weakly and
+ * dropped together with the shared {@link SerializedSkin}.
+ */
+public final class EncodedSkinCache {
+    /**
+     * Encoded skins by codec helper class, as the encoding differs between protocol versions
+     */
+    private static final Cache<SerializedSkin, Map<Class<?>, byte[]>> ENCODED_SKINS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    private EncodedSkinCache() {
+    }
+
+    static void register(SerializedSkin skin) {
+        ENCODED_SKINS.put(skin, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Writes the skin like {@link BedrockCodecHelper#writeSkin(ByteBuf, SerializedSkin)}, copying its encoding if it was written before.
+     */
+    public static void writeSkin(ByteBuf buffer, BedrockCodecHelper helper, SerializedSkin skin) {
+        Map<Class<?>, byte[]> encoded = ENCODED_SKINS.getIfPresent(skin);
+        if (encoded == null) {
+            helper.writeSkin(buffer, skin);
+            return;
+        }
+
+        byte[] bytes = encoded.get(helper.getClass());
+        if (bytes != null) {
+            buffer.writeBytes(bytes);
+            return;
+        }
+        int start = buffer.writerIndex();
+        helper.writeSkin(buffer, skin);
+        encoded.put(helper.getClass(), ByteBufUtil.getBytes(buffer, start, buffer.writerIndex() - start));
+    }
+
+    /**
+     * @return a codec helper that behaves like the given one, except that skins are written through {@link #writeSkin(ByteBuf, BedrockCodecHelper, SerializedSkin)}
+     */
+    public static BedrockCodecHelper wrap(BedrockCodecHelper helper) {
+        return (BedrockCodecHelper) Proxy.newProxyInstance(EncodedSkinCache.class.getClassLoader(), new Class<?>[] {BedrockCodecHelper.class},
+            (proxy, method, args) -> {
+                if (isWriteSkin(method)) {
+                    writeSkin((ByteBuf) args[0], helper, (SerializedSkin) args[1]);
+                    return null;
+                }
+                try {
+                    return method.invoke(helper, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    private static boolean isWriteSkin(Method method) {
+        return method.getName().equals("writeSkin") && method.getParameterCount() == 2
+            && method.getParameterTypes()[1] == SerializedSkin.class;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Texture data that has already been converted to the RGBA layout Bedrock expects, stored with a small header.
+ * Reading one back is a single mapping of the file, without decoding a PNG or scaling the image again.
+ */
+final class RawImageFile {
+    static final String EXTENSION = ".rgba";
+
+    private static final int MAGIC = 0x47525841; // GRXA
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES * 2;
+    /**
+     * Bedrock does not render skins wider than 128 pixels, so anything larger than this is not one of ours
+     */
+    private static final int MAX_DATA_SIZE = 256 * 256 * 4;
+
+    private RawImageFile() {
+    }
+
+    /**
+     * @return the RGBA data of the file, or null if it does not exist or is not valid
+     */
+    static byte @Nullable [] read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > HEADER_SIZE + MAX_DATA_SIZE) {
+                return null;
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                return null;
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width <= 0 || height <= 0 || (long) width * height * 4 != buffer.remaining()) {
+                return null;
+            }
+
+            byte[] data = new byte[buffer.remaining()];
+            buffer.get(data);
+            return data;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the file through a temporary file, so readers never observe a partially written image.
+     */
+    static void write(Path path, int width, int height, byte[] data) throws IOException {
+        if ((long) width * height * 4 != data.length) {
+            throw new IllegalArgumentException("Expected " + width + "x" + height + " RGBA data, got " + data.length + " bytes");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+            .putInt(MAGIC)
+            .put(VERSION)
+            .putInt(width)
+            .putInt(height)
+            .flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = {header, ByteBuffer.wrap(data)};
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -26,6 +26,8 @@
 package org.geysermc.geyser.skin;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.nbt.NbtType;
@@ -51,12 +53,23 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class SkinManager {
 
     static final String GEOMETRY = new String(FileUtils.readAllBytes("bedrock/geometries/geo.json"), StandardCharsets.UTF_8);
 
+    /**
+     * Serialized skins are immutable and the same for every viewer on the same Bedrock version, so the same instance
+     * is handed to every player list entry and skin packet, and {@link EncodedSkinCache} only has to encode it once.
+     * Entries only reference the texture data held by {@link SkinProvider}.
+     */
+    private static final Cache<SerializedSkinKey, CachedSerializedSkin> SERIALIZED_SKINS = CacheBuilder.newBuilder()
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .maximumSize(1024)
+            .build();
+
     /**
      * Builds a Bedrock player list entry from our existing, cached Bedrock skin information
      */
@@ -177,6 +190,19 @@ public class SkinManager {
     }
 
     private static SerializedSkin getSkin(GeyserSession session, String skinId, Skin skin, Cape cape, SkinGeometry geometry) {
+        String engineVersion = session.getClientData().getGameVersion();
+        SerializedSkinKey key = new SerializedSkinKey(skinId, cape.capeId(), geometry, engineVersion);
+        CachedSerializedSkin cached = SERIALIZED_SKINS.getIfPresent(key);
+        // The texture URL does not always identify the texture data (e.g. Bedrock skins), so also check the data is the same
+        if (cached == null || cached.skinData() != skin.skinData() || cached.capeData() != cape.capeData()) {
+            cached = new CachedSerializedSkin(skin.skinData(), cape.capeData(), buildSkin(skinId, skin, cape, geometry, engineVersion));
+            SERIALIZED_SKINS.put(key, cached);
+            EncodedSkinCache.register(cached.skin());
+        }
+        return cached.skin();
+    }
+
+    private static SerializedSkin buildSkin(String skinId, Skin skin, Cape cape, SkinGeometry geometry, String engineVersion) {
         return SerializedSkin.builder()
             .skinId(skinId)
             .skinResourcePatch(geometry.geometryName())
@@ -186,10 +212,16 @@ public class SkinManager {
             .premium(true)
             .capeId(cape.capeId())
             .fullSkinId(skinId)
-            .geometryDataEngineVersion(session.getClientData().getGameVersion())
+            .geometryDataEngineVersion(engineVersion)
             .build();
     }
 
+    private record SerializedSkinKey(String skinId, String capeId, SkinGeometry geometry, String engineVersion) {
+    }
+
+    private record CachedSerializedSkin(byte[] skinData, byte[] capeData, SerializedSkin skin) {
+    }
+
     public static void requestAndHandleSkinAndCape(PlayerEntity entity, GeyserSession session,
                                                    Consumer<SkinProvider.SkinAndCape> skinAndCapeConsumer) {
         SkinProvider.requestSkinData(entity, session).whenCompleteAsync((skinData, throwable) -> {
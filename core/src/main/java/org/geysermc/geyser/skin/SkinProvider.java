@@ -28,6 +28,8 @@ package org.geysermc.geyser.skin;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import it.unimi.dsi.fastutil.bytes.ByteArrays;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -41,43 +43,53 @@ import org.geysermc.geyser.api.skin.SkinGeometry;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.util.BlockingIoExecutor;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 public class SkinProvider {
-    private static ExecutorService EXECUTOR_SERVICE;
+    /**
+     * Decoding, scaling and converting textures is CPU-bound, so a few threads are enough.
+     * Downloads don't occupy any of these threads; see {@link TextureDownloader}.
+     */
+    private static ExecutorService DECODE_EXECUTOR;
 
     static final Skin EMPTY_SKIN;
     static final Cape EMPTY_CAPE = new Cape("", "no-cape", ByteArrays.EMPTY_ARRAY, true);
 
-    private static final Cache<String, Cape> CACHED_JAVA_CAPES = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS)
-            .build();
-    private static final Cache<String, Skin> CACHED_JAVA_SKINS = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS)
-            .build();
+    /**
+     * How many bytes of texture data may be kept in memory, split between the caches below.
+     * Past that, the least recently used textures are evicted - they can still be reloaded from the image cache on disk.
+     */
+    private static final long TEXTURE_CACHE_BYTES = Long.getLong("Geyser.SkinCacheMegabytes", 64) * 1024 * 1024;
+
+    private static final Cache<String, Cape> CACHED_JAVA_CAPES = textureCache(TEXTURE_CACHE_BYTES / 10, cape -> cape.capeData().length);
+    private static final Cache<String, Skin> CACHED_JAVA_SKINS = textureCache(TEXTURE_CACHE_BYTES * 4 / 10, skin -> skin.skinData().length);
+
+    private static final Cache<String, Cape> CACHED_BEDROCK_CAPES = textureCache(TEXTURE_CACHE_BYTES / 10, cape -> cape.capeData().length);
+    private static final Cache<String, Skin> CACHED_BEDROCK_SKINS = textureCache(TEXTURE_CACHE_BYTES * 4 / 10, skin -> skin.skinData().length);
 
-    private static final Cache<String, Cape> CACHED_BEDROCK_CAPES = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS)
-            .build();
-    private static final Cache<String, Skin> CACHED_BEDROCK_SKINS = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS)
-            .build();
+    private static final LongAdder DISK_CACHE_HITS = new LongAdder();
+    private static final LongAdder DISK_CACHE_MISSES = new LongAdder();
 
     private static final Map<String, CompletableFuture<Cape>> requestedCapes = new ConcurrentHashMap<>();
     private static final Map<String, CompletableFuture<Skin>> requestedSkins = new ConcurrentHashMap<>();
@@ -131,17 +143,49 @@ public class SkinProvider {
         }
     }
 
-    public static ExecutorService getExecutorService() {
-        if (EXECUTOR_SERVICE == null) {
-            EXECUTOR_SERVICE = Executors.newFixedThreadPool(14);
+    private static <T> Cache<String, T> textureCache(long maxBytes, ToIntFunction<T> textureSize) {
+        return CacheBuilder.newBuilder()
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .maximumWeight(maxBytes)
+                .weigher((String key, T value) -> key.length() + textureSize.applyAsInt(value))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return hit rates and sizes of the texture caches, for the dump
+     */
+    public static List<TextureCacheStats> cacheStats() {
+        return List.of(
+                TextureCacheStats.of("java_skins", CACHED_JAVA_SKINS),
+                TextureCacheStats.of("java_capes", CACHED_JAVA_CAPES),
+                TextureCacheStats.of("bedrock_skins", CACHED_BEDROCK_SKINS),
+                TextureCacheStats.of("bedrock_capes", CACHED_BEDROCK_CAPES),
+                new TextureCacheStats("disk", -1, DISK_CACHE_HITS.sum(), DISK_CACHE_MISSES.sum(), 0)
+        );
+    }
+
+    /**
+     * @return the executor skins and profiles are downloaded on
+     */
+    public static Executor getExecutorService() {
+        return BlockingIoExecutor.get();
+    }
+
+    private static synchronized ExecutorService getDecodeExecutor() {
+        if (DECODE_EXECUTOR == null) {
+            int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+            DECODE_EXECUTOR = Executors.newFixedThreadPool(threads, new DefaultThreadFactory("Geyser Skin Decoder", true));
         }
-        return EXECUTOR_SERVICE;
+        return DECODE_EXECUTOR;
     }
 
     public static void shutdown() {
-        if (EXECUTOR_SERVICE != null) {
-            EXECUTOR_SERVICE.shutdown();
-            EXECUTOR_SERVICE = null;
+        synchronized (SkinProvider.class) {
+            if (DECODE_EXECUTOR != null) {
+                DECODE_EXECUTOR.shutdown();
+                DECODE_EXECUTOR = null;
+            }
         }
     }
 
@@ -294,73 +338,90 @@ public class SkinProvider {
     }
 
     private static CompletableFuture<SkinAndCape> requestSkinAndCape(UUID playerId, String skinUrl, String capeUrl) {
-        return CompletableFuture.supplyAsync(() -> {
-            long time = System.currentTimeMillis();
-
-            SkinAndCape skinAndCape = new SkinAndCape(
-                    getOrDefault(requestSkin(playerId, skinUrl, false), EMPTY_SKIN, 5),
-                    getOrDefault(requestCape(capeUrl, false), EMPTY_CAPE, 5)
-            );
+        long time = System.currentTimeMillis();
+        // Copies, so the timeouts don't complete the requests that are shared with other players
+        CompletableFuture<Skin> skin = requestSkin(playerId, skinUrl).copy().completeOnTimeout(EMPTY_SKIN, 5, TimeUnit.SECONDS);
+        CompletableFuture<Cape> cape = requestCape(capeUrl).copy().completeOnTimeout(EMPTY_CAPE, 5, TimeUnit.SECONDS);
 
+        return skin.thenCombine(cape, (skinResult, capeResult) -> {
             GeyserImpl.getInstance().getLogger().debug("Took " + (System.currentTimeMillis() - time) + "ms for " + playerId);
-            return skinAndCape;
-        }, getExecutorService());
+            return new SkinAndCape(skinResult, capeResult);
+        });
     }
 
-    static CompletableFuture<Skin> requestSkin(UUID playerId, String textureUrl, boolean newThread) {
+    static CompletableFuture<Skin> requestSkin(UUID playerId, String textureUrl) {
         if (textureUrl == null || textureUrl.isEmpty()) return CompletableFuture.completedFuture(EMPTY_SKIN);
-        CompletableFuture<Skin> requestedSkin = requestedSkins.get(textureUrl);
-        if (requestedSkin != null) {
-            // already requested
-            return requestedSkin;
-        }
-
         Skin cachedSkin = CACHED_JAVA_SKINS.getIfPresent(textureUrl);
         if (cachedSkin != null) {
             return CompletableFuture.completedFuture(cachedSkin);
         }
 
-        CompletableFuture<Skin> future;
-        if (newThread) {
-            future = CompletableFuture.supplyAsync(() -> supplySkin(playerId, textureUrl), getExecutorService())
-                    .whenCompleteAsync((skin, throwable) -> {
-                        CACHED_JAVA_SKINS.put(textureUrl, skin);
-                        requestedSkins.remove(textureUrl);
-                    });
-            requestedSkins.put(textureUrl, future);
-        } else {
-            Skin skin = supplySkin(playerId, textureUrl);
-            future = CompletableFuture.completedFuture(skin);
-            CACHED_JAVA_SKINS.put(textureUrl, skin);
-        }
-        return future;
+        return coalesce(requestedSkins, textureUrl, () -> requestImageData(textureUrl, false)
+                .handle((data, throwable) -> {
+                    Skin skin;
+                    if (throwable == null) {
+                        skin = new Skin(textureUrl, data);
+                    } else {
+                        GeyserImpl.getInstance().getLogger().debug("Failed to load skin " + textureUrl + " for " + playerId + ": " + throwable.getMessage());
+                        skin = new Skin("empty", EMPTY_SKIN.skinData(), true);
+                    }
+                    CACHED_JAVA_SKINS.put(textureUrl, skin);
+                    return skin;
+                }));
     }
 
-    private static CompletableFuture<Cape> requestCape(String capeUrl, boolean newThread) {
+    private static CompletableFuture<Cape> requestCape(String capeUrl) {
         if (capeUrl == null || capeUrl.isEmpty()) return CompletableFuture.completedFuture(EMPTY_CAPE);
-        CompletableFuture<Cape> requestedCape = requestedCapes.get(capeUrl);
-        if (requestedCape != null) {
-            return requestedCape;
-        }
-
         Cape cachedCape = CACHED_JAVA_CAPES.getIfPresent(capeUrl);
         if (cachedCape != null) {
             return CompletableFuture.completedFuture(cachedCape);
         }
 
-        CompletableFuture<Cape> future;
-        if (newThread) {
-            future = CompletableFuture.supplyAsync(() -> supplyCape(capeUrl), getExecutorService())
-                    .whenCompleteAsync((cape, throwable) -> {
-                        CACHED_JAVA_CAPES.put(capeUrl, cape);
-                        requestedCapes.remove(capeUrl);
-                    });
-            requestedCapes.put(capeUrl, future);
-        } else {
-            Cape cape = supplyCape(capeUrl); // blocking
-            future = CompletableFuture.completedFuture(cape);
-            CACHED_JAVA_CAPES.put(capeUrl, cape);
+        return coalesce(requestedCapes, capeUrl, () -> requestImageData(capeUrl, true)
+                .handle((data, throwable) -> {
+                    byte[] capeData = throwable == null ? data : EMPTY_CAPE.capeData();
+                    String[] urlSection = capeUrl.split("/"); // A real url is expected at this stage
+
+                    Cape cape = new Cape(
+                            capeUrl,
+                            urlSection[urlSection.length - 1], // get the texture id and use it as cape id
+                            capeData,
+                            capeData.length == 0
+                    );
+                    CACHED_JAVA_CAPES.put(capeUrl, cape);
+                    return cape;
+                }));
+    }
+
+    /**
+     * Makes sure only one request per key is in flight; anyone else asking for the same key in the meantime
+     * gets the pending future. The request is expected to fill the relevant cache before it completes.
+     */
+    private static <T> CompletableFuture<T> coalesce(Map<String, CompletableFuture<T>> requests, String key, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> pending = requests.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pending = requests.putIfAbsent(key, future);
+        if (pending != null) {
+            return pending;
         }
+
+        CompletableFuture<T> result;
+        try {
+            result = request.get();
+        } catch (Throwable t) {
+            result = CompletableFuture.failedFuture(t);
+        }
+        result.whenComplete((value, throwable) -> {
+            requests.remove(key, future);
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(value);
+            }
+        });
         return future;
     }
 
@@ -379,38 +440,12 @@ public class SkinProvider {
         cachedGeometry.put(playerID, geometry);
     }
 
-    private static Skin supplySkin(UUID uuid, String textureUrl) {
-        try {
-            byte[] skin = requestImageData(textureUrl, false);
-            return new Skin(textureUrl, skin);
-        } catch (Exception ignored) {} // just ignore I guess
-
-        return new Skin("empty", EMPTY_SKIN.skinData(), true);
-    }
-
-    private static Cape supplyCape(String capeUrl) {
-        byte[] cape = EMPTY_CAPE.capeData();
-        try {
-            cape = requestImageData(capeUrl, true);
-        } catch (Exception ignored) {
-        } // just ignore I guess
-
-        String[] urlSection = capeUrl.split("/"); // A real url is expected at this stage
-
-        return new Cape(
-                capeUrl,
-                urlSection[urlSection.length - 1], // get the texture id and use it as cape id
-                cape,
-                cape.length == 0
-        );
-    }
-
     @SuppressWarnings("ResultOfMethodCallIgnored")
     public static BufferedImage requestImage(String imageUrl, boolean isCape) throws IOException {
         BufferedImage image = null;
 
         // First see if we have a cached file. We also update the modification stamp so we know when the file was last used
-        File imageFile = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images").resolve(UUID.nameUUIDFromBytes(imageUrl.getBytes()) + ".png").toFile();
+        File imageFile = pngCacheFile(imageUrl);
         if (imageFile.exists()) {
             try {
                 GeyserImpl.getInstance().getLogger().debug("Reading cached image from file " + imageFile.getPath() + " for " + imageUrl);
@@ -436,6 +471,13 @@ public class SkinProvider {
             }
         }
 
+        return transformImage(image, isCape);
+    }
+
+    /**
+     * Brings a downloaded texture to a size Bedrock is able to display.
+     */
+    private static BufferedImage transformImage(BufferedImage image, boolean isCape) {
         // if the requested image is a cape
         if (isCape) {
             if (image.getWidth() > 64 || image.getHeight() > 32) {
@@ -469,13 +511,84 @@ public class SkinProvider {
         return image;
     }
 
-    private static byte[] requestImageData(String imageUrl, boolean isCape) throws Exception {
-        BufferedImage image = requestImage(imageUrl, isCape);
+    /**
+     * Loads a texture as Bedrock image data. Reading the disk cache, decoding and scaling happens on the decode
+     * executor, while downloading doesn't block any thread at all.
+     */
+    private static CompletableFuture<byte[]> requestImageData(String imageUrl, boolean isCape) {
+        File rawFile = imageCacheFolder().resolve(UUID.nameUUIDFromBytes(imageUrl.getBytes()) + (isCape ? "-cape" : "") + RawImageFile.EXTENSION).toFile();
+        return CompletableFuture.supplyAsync(() -> readCachedImageData(imageUrl, isCape, rawFile), getDecodeExecutor())
+                .thenCompose(data -> {
+                    if (data != null) {
+                        return CompletableFuture.completedFuture(data);
+                    }
+                    return TextureDownloader.download(imageUrl).thenApplyAsync(bytes -> {
+                        GeyserImpl.getInstance().getLogger().debug("Downloaded " + imageUrl);
+                        try {
+                            return toImageData(imageUrl, decodeImage(imageUrl, bytes), isCape, rawFile);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, getDecodeExecutor());
+                });
+    }
+
+    /**
+     * @return the cached image data, or null if this texture has to be downloaded
+     */
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static byte @Nullable [] readCachedImageData(String imageUrl, boolean isCape, File rawFile) {
+        // Textures are cached on disk after conversion, so loading them again needs no decoding or scaling
+        if (rawFile.exists()) {
+            byte[] data = RawImageFile.read(rawFile.toPath());
+            if (data != null) {
+                DISK_CACHE_HITS.increment();
+                rawFile.setLastModified(System.currentTimeMillis());
+                return data;
+            }
+        }
+        DISK_CACHE_MISSES.increment();
+
+        // Textures cached by older versions or by skull resource packs are still worth converting
+        File imageFile = pngCacheFile(imageUrl);
+        if (imageFile.exists()) {
+            try {
+                BufferedImage image = ImageIO.read(imageFile);
+                if (image != null) {
+                    GeyserImpl.getInstance().getLogger().debug("Reading cached image from file " + imageFile.getPath() + " for " + imageUrl);
+                    imageFile.setLastModified(System.currentTimeMillis());
+                    return toImageData(imageUrl, image, isCape, rawFile);
+                }
+            } catch (IOException ignored) {}
+        }
+        return null;
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static byte[] toImageData(String imageUrl, BufferedImage image, boolean isCape, File rawFile) {
+        image = transformImage(image, isCape);
         byte[] data = bufferedImageToImageData(image);
+
+        if (GeyserImpl.getInstance().getConfig().getCacheImages() > 0) {
+            try {
+                rawFile.getParentFile().mkdirs();
+                RawImageFile.write(rawFile.toPath(), image.getWidth(), image.getHeight(), data);
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().error("Failed to write cached image to file " + rawFile.getPath() + " for " + imageUrl);
+            }
+        }
         image.flush();
         return data;
     }
 
+    private static File pngCacheFile(String imageUrl) {
+        return imageCacheFolder().resolve(UUID.nameUUIDFromBytes(imageUrl.getBytes()) + ".png").toFile();
+    }
+
+    private static Path imageCacheFolder() {
+        return GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images");
+    }
+
     /**
      * Request textures from a player's UUID
      *
@@ -534,13 +647,20 @@ public class SkinProvider {
     }
 
     private static BufferedImage downloadImage(String imageUrl) throws IOException {
-        HttpURLConnection con = (HttpURLConnection) new URL(imageUrl).openConnection();
-        con.setRequestProperty("User-Agent", WebUtils.getUserAgent());
-        con.setConnectTimeout(10000);
-        con.setReadTimeout(10000);
-
-        BufferedImage image = ImageIO.read(con.getInputStream());
+        byte[] bytes;
+        try {
+            bytes = TextureDownloader.download(imageUrl).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while downloading " + imageUrl, e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to download " + imageUrl, e.getCause());
+        }
+        return decodeImage(imageUrl, bytes);
+    }
 
+    private static BufferedImage decodeImage(String imageUrl, byte[] bytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
         if (image == null) {
             throw new IllegalArgumentException("Failed to read image from: %s".formatted(imageUrl));
         }
@@ -620,6 +740,21 @@ public class SkinProvider {
     public record SkinAndCape(Skin skin, Cape cape) {
     }
 
+    /**
+     * @param entries the amount of cached textures, or -1 if unknown
+     * @param hitRate the fraction of lookups that were hits, or 0 if there were none
+     */
+    public record TextureCacheStats(String name, long entries, long hits, long misses, long evictions, double hitRate) {
+        TextureCacheStats(String name, long entries, long hits, long misses, long evictions) {
+            this(name, entries, hits, misses, evictions, hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+        }
+
+        static TextureCacheStats of(String name, Cache<String, ?> cache) {
+            CacheStats stats = cache.stats();
+            return new TextureCacheStats(name, cache.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+        }
+    }
+
     public static class EventSkinData {
         private SkinData skinData;
 
@@ -83,7 +83,7 @@ public class SkullSkinManager extends SkinManager {
             SkinData fallback = SkinProvider.determineFallbackSkinData(entity.getSkullUUID());
             applySkin.accept(fallback.skin(), null);
         } else {
-            SkinProvider.requestSkin(entity.getUuid(), data.skinUrl(), true)
+            SkinProvider.requestSkin(entity.getUuid(), data.skinUrl())
                     .whenCompleteAsync(applySkin);
         }
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import org.geysermc.geyser.util.WebUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Downloads textures without blocking a thread per request. Connections are kept alive and reused by the HTTP client,
+ * and the amount of requests in flight to a single host is limited, so a wave of logins queues up instead of hammering
+ * the texture server.
+ */
+final class TextureDownloader {
+    private static final int MAX_REQUESTS_PER_HOST = Math.max(1, Integer.getInteger("Geyser.TextureRequestsPerHost", 8));
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+        .connectTimeout(TIMEOUT)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+
+    private static final Map<String, HostLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private TextureDownloader() {
+    }
+
+    /**
+     * @return the body of the response, completed exceptionally if the request failed or did not return 200 OK
+     */
+    static CompletableFuture<byte[]> download(String url) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("User-Agent", WebUtils.getUserAgent())
+                .GET()
+                .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        String host = request.uri().getHost();
+        HostLimiter limiter = LIMITERS.computeIfAbsent(host == null ? "" : host, $ -> new HostLimiter());
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        limiter.submit(() -> {
+            try {
+                CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, throwable) -> {
+                    limiter.release();
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else if (response.statusCode() != 200) {
+                        result.completeExceptionally(new IOException("Got status code " + response.statusCode() + " for " + url));
+                    } else {
+                        result.complete(response.body());
+                    }
+                });
+            } catch (Throwable t) {
+                limiter.release();
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    private static final class HostLimiter {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+
+        void submit(Runnable request) {
+            synchronized (this) {
+                if (active >= MAX_REQUESTS_PER_HOST) {
+                    waiting.add(request);
+                    return;
+                }
+                active++;
+            }
+            request.run();
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            // The slot is handed over to the next request
+            next.run();
+        }
+    }
+}
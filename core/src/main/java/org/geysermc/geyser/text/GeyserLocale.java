@@ -129,6 +129,17 @@ public class GeyserLocale {
         }
         boolean validLocalLanguage = localLanguage != null && localLanguage.exists();
 
+        // Strings that haven't made it into the languages repository yet; it overrides them once they have
+        InputStream fallbackStream = bootstrap.getResourceOrNull("languages-fallback/" + locale + ".properties");
+        if (fallbackStream != null) {
+            try (InputStreamReader reader = new InputStreamReader(fallbackStream, StandardCharsets.UTF_8)) {
+                localeProp.load(reader);
+            } catch (Exception e) {
+                throw new AssertionError(getLocaleStringLog("geyser.language.load_failed", locale), e);
+            }
+            LOCALE_MAPPINGS.put(locale, localeProp);
+        }
+
         InputStream localeStream = bootstrap.getResourceOrNull("languages/texts/" + locale + ".properties");
 
         // Load the locale
@@ -148,7 +159,7 @@ public class GeyserLocale {
                 } catch (IOException ignored) {}
             }
         } else {
-            if (!validLocalLanguage) {
+            if (!validLocalLanguage && fallbackStream == null) {
                 // Don't warn on missing locales if a local file has been found
                 bootstrap.getGeyserLogger().debug("Missing locale: " + locale);
             }
@@ -167,7 +178,8 @@ public class GeyserLocale {
 
             LOCALE_MAPPINGS.putIfAbsent(locale, localeProp);
         }
-        return localeProp.isEmpty() ? null : locale;
+        // The fallback strings alone don't make a locale valid
+        return localeProp.isEmpty() || (localeStream == null && !validLocalLanguage) ? null : locale;
     }
 
     /**
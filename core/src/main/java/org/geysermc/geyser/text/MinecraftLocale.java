@@ -42,10 +42,12 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MinecraftLocale {
 
-    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new HashMap<>();
+    // Locales are downloaded and loaded on the blocking I/O executor, while sessions read them
+    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new ConcurrentHashMap<>();
 
     // Check instance availability to avoid exception during testing
     private static final boolean IN_INSTANCE = GeyserImpl.getInstance() != null;
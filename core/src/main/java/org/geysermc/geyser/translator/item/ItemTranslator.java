@@ -186,6 +186,11 @@ public final class ItemTranslator {
     }
 
     public static ItemData.@NonNull Builder translateToBedrock(GeyserSession session, Item javaItem, ItemMapping bedrockItem, int count, @Nullable DataComponents customComponents) {
+        return session.getItemTranslationCache().translate(javaItem.javaId(), bedrockItem.getBedrockDefinition().getRuntimeId(), count, customComponents,
+            () -> translateUncached(session, javaItem, bedrockItem, count, customComponents));
+    }
+
+    private static ItemData.@NonNull Builder translateUncached(GeyserSession session, Item javaItem, ItemMapping bedrockItem, int count, @Nullable DataComponents customComponents) {
         BedrockItemBuilder nbtBuilder = new BedrockItemBuilder();
 
         // Populates default components that aren't sent over the network
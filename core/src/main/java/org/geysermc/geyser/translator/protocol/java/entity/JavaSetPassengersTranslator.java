@@ -108,7 +108,7 @@ public class JavaSetPassengersTranslator extends PacketTranslator<ClientboundSet
                         // Cancel this task as it is now unnecessary.
                         // Note that this isn't present in JavaSetPassengersTranslator as that code is not called for players
                         // as of Java 1.19.3, but the scheduled future checks for the vehicle being null anyway.
-                        session.getMountVehicleScheduledFuture().cancel(false);
+                        session.getMountVehicleScheduledFuture().cancel();
                     }
 
                     // Reset steering to avoid session#isHandsBusy from triggering
@@ -123,6 +123,8 @@ public class JavaSetPassengersTranslator extends PacketTranslator<ClientboundSet
         }
 
         entity.setPassengers(newPassengers);
+        // Vehicles may only need ticking while they are ridden
+        session.getEntityCache().wakeTickable(entity);
 
         switch (entity.getDefinition().entityType()) {
             case HORSE, SKELETON_HORSE, DONKEY, MULE, RAVAGER -> {
@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.translator.protocol.java.inventory;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.geysermc.geyser.GeyserLogger;
 import org.geysermc.geyser.inventory.GeyserItemStack;
 import org.geysermc.geyser.inventory.Inventory;
@@ -36,8 +38,14 @@ import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.InventoryUtils;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.inventory.ClientboundContainerSetContentPacket;
 
+import java.util.Objects;
+
 @Translator(packet = ClientboundContainerSetContentPacket.class)
 public class JavaContainerSetContentTranslator extends PacketTranslator<ClientboundContainerSetContentPacket> {
+    /**
+     * Once more than this fraction of the inventory changed, one content packet is cheaper than individual slot packets
+     */
+    private static final int FULL_UPDATE_DIVISOR = 4;
 
     @Override
     public void translate(GeyserSession session, ClientboundContainerSetContentPacket packet) {
@@ -46,6 +54,16 @@ public class JavaContainerSetContentTranslator extends PacketTranslator<Clientbo
             return;
 
         Inventory inventory = holder.inventory();
+        int stateId = packet.getStateId();
+
+        // Java bumps the state ID once for every update it sends. If this packet directly follows the last state we know of,
+        // the Bedrock client is showing our copy of the inventory, so only slots that differ from it need to be resent.
+        // Any other state ID, or a closed inventory, resyncs everything. A rejected click is not necessarily caught by this:
+        // ClickPlan advances our state ID by the increments it predicts, so the correction can still look in sequence.
+        // That is fine, as the slots are compared against our copy - which holds the prediction - and not against the
+        // previous server state, so every slot the server reverted is resent.
+        boolean inSync = inventory.isDisplayed() && stateId > 0 && stateId == (inventory.getStateId() + 1 & Short.MAX_VALUE);
+        IntList changedSlots = new IntArrayList();
 
         int inventorySize = inventory.getSize();
         for (int i = 0; i < packet.getItems().length; i++) {
@@ -65,13 +83,23 @@ public class JavaContainerSetContentTranslator extends PacketTranslator<Clientbo
             }
 
             GeyserItemStack newItem = GeyserItemStack.from(packet.getItems()[i]);
+            if (inSync && isUnchanged(inventory.getItem(i), newItem)) {
+                // Menus that are refreshed every tick mostly resend what the client already has
+                continue;
+            }
             session.getBundleCache().initialize(newItem);
             inventory.setItem(i, newItem, session);
+            changedSlots.add(i);
         }
 
-        holder.updateInventory();
+        if (!inSync || changedSlots.size() > inventorySize / FULL_UPDATE_DIVISOR) {
+            holder.updateInventory();
+        } else {
+            for (int i = 0; i < changedSlots.size(); i++) {
+                holder.updateSlot(changedSlots.getInt(i));
+            }
+        }
 
-        int stateId = packet.getStateId();
         session.setEmulatePost1_16Logic(stateId > 0 || stateId != inventory.getStateId());
         inventory.setStateId(stateId);
 
@@ -91,4 +119,12 @@ public class JavaContainerSetContentTranslator extends PacketTranslator<Clientbo
                 packet.getItems()[SmithingInventoryTranslator.OUTPUT], holder);
         }
     }
+
+    private static boolean isUnchanged(GeyserItemStack oldItem, GeyserItemStack newItem) {
+        if (oldItem.isEmpty() || newItem.isEmpty()) {
+            return oldItem.isEmpty() && newItem.isEmpty();
+        }
+        return oldItem.getJavaId() == newItem.getJavaId() && oldItem.getAmount() == newItem.getAmount()
+            && Objects.equals(oldItem.getComponents(), newItem.getComponents());
+    }
 }
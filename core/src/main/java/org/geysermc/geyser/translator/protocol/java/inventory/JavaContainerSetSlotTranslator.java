@@ -119,7 +119,7 @@ public class JavaContainerSetSlotTranslator extends PacketTranslator<Clientbound
 
         // Only process the most recent crafting grid result, and cancel the previous one.
         if (session.getContainerOutputFuture() != null) {
-            session.getContainerOutputFuture().cancel(false);
+            session.getContainerOutputFuture().cancel();
         }
 
         if (InventoryUtils.isEmpty(item)) {
@@ -224,7 +224,7 @@ public class JavaContainerSetSlotTranslator extends PacketTranslator<Clientbound
 
         // Only process the most recent output result, and cancel the previous one.
         if (session.getContainerOutputFuture() != null) {
-            session.getContainerOutputFuture().cancel(false);
+            session.getContainerOutputFuture().cancel();
         }
 
         if (InventoryUtils.isEmpty(output)) {
@@ -128,7 +128,7 @@ public final class AssetUtils {
                 GeyserImpl.getInstance().getLogger().error(GeyserLocale.getLocaleStringLog("geyser.locale.fail.asset_cache", (!e.getMessage().isEmpty() ? e.getMessage() : e.getStackTrace())));
             }
             return null;
-        });
+        }, BlockingIoExecutor.get());
     }
 
     public static void downloadAndRunClientJarTasks() {
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The executor that all blocking I/O in Geyser runs on - web requests, downloads, ping passthrough sockets and
+ * Microsoft authentication. On Java 21 and later this starts one virtual thread per task, so thousands of slow
+ * requests can wait at once without starving each other; otherwise it falls back to a fixed pool of platform threads.
+ * <p>
+ * Virtual threads can be turned off with {@code -DGeyser.VirtualThreads=false}, and the size of the fallback pool is
+ * set with {@code -DGeyser.BlockingIoThreads}. Platforms may also {@link #inject(ExecutorService) provide their own}.
+ */
+public final class BlockingIoExecutor {
+    private static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("Geyser.VirtualThreads", "true"));
+    private static final int FALLBACK_THREADS = Math.max(1, Integer.getInteger("Geyser.BlockingIoThreads", 14));
+    private static final String THREAD_NAME = "Geyser Blocking I/O";
+
+    /**
+     * Always forwards to the current executor, so callers may hold on to it across reloads
+     */
+    private static final Executor INSTANCE = task -> executor().execute(task);
+
+    private static volatile @Nullable ExecutorService executor;
+    private static boolean virtual;
+    private static boolean injected;
+
+    private BlockingIoExecutor() {
+    }
+
+    public static Executor get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Replaces the executor used for blocking I/O. Has to be called before Geyser starts.
+     */
+    public static synchronized void inject(ExecutorService executorService) {
+        ExecutorService previous = executor;
+        if (previous != null && !injected) {
+            previous.shutdown();
+        }
+        executor = executorService;
+        virtual = false;
+        injected = true;
+    }
+
+    /**
+     * @return true if tasks run on virtual threads
+     */
+    public static synchronized boolean isVirtual() {
+        executor();
+        return virtual;
+    }
+
+    /**
+     * Stops accepting new tasks; a new executor is created if Geyser starts again. Injected executors are left alone.
+     */
+    public static synchronized void shutdown() {
+        ExecutorService current = executor;
+        if (current != null && !injected) {
+            current.shutdown();
+            executor = null;
+        }
+    }
+
+    private static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current != null) {
+            return current;
+        }
+        synchronized (BlockingIoExecutor.class) {
+            if (executor == null) {
+                ExecutorService created = VIRTUAL_THREADS ? createVirtualThreadExecutor() : null;
+                virtual = created != null;
+                if (created == null) {
+                    created = Executors.newFixedThreadPool(FALLBACK_THREADS, new DefaultThreadFactory(THREAD_NAME, true));
+                }
+                executor = created;
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Geyser still targets Java 17, so virtual threads can only be reached reflectively.
+     */
+    private static @Nullable ExecutorService createVirtualThreadExecutor() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME + " #", 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
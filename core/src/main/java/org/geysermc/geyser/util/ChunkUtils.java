@@ -26,7 +26,6 @@
 package org.geysermc.geyser.util;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.IntLists;
 import lombok.experimental.UtilityClass;
@@ -48,6 +47,9 @@ import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.text.GeyserLocale;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @UtilityClass
 public class ChunkUtils {
 
@@ -57,6 +59,8 @@ public class ChunkUtils {
 
     public static final int EMPTY_CHUNK_SECTION_SIZE;
 
+    private static final Map<Integer, ByteBuf> EMPTY_CHUNK_PAYLOADS = new ConcurrentHashMap<>();
+
     static {
         EMPTY_BLOCK_STORAGE = new BlockStorage[0];
 
@@ -87,6 +91,25 @@ public class ChunkUtils {
         }
     }
 
+    /**
+     * The payload of an empty chunk only depends on the dimension height, and is sent for every chunk that is
+     * unloaded - so it is encoded once per sub-chunk count and shared by every session.
+     *
+     * @return a read-only buffer that must not be released
+     */
+    private static ByteBuf emptyChunkPayload(BedrockDimension dimension) {
+        return EMPTY_CHUNK_PAYLOADS.computeIfAbsent(dimension.height() >> 4, bedrockSubChunkCount -> {
+            ByteBuf byteBuf = Unpooled.buffer(EMPTY_BIOME_DATA.length + bedrockSubChunkCount); // Consists only of biome data and border blocks
+            byteBuf.writeBytes(EMPTY_BIOME_DATA);
+            for (int i = 1; i < bedrockSubChunkCount; i++) {
+                byteBuf.writeByte((127 << 1) | 1);
+            }
+
+            byteBuf.writeByte(0); // Border blocks - Edu edition only
+            return Unpooled.unreleasableBuffer(byteBuf.asReadOnly());
+        });
+    }
+
     public static int indexYZXtoXZY(int yzx) {
         return (yzx >> 8) | (yzx & 0x0F0) | ((yzx & 0x00F) << 8);
     }
@@ -157,34 +180,15 @@ public class ChunkUtils {
     }
 
     public static void sendEmptyChunk(GeyserSession session, int chunkX, int chunkZ, boolean forceUpdate) {
-        BedrockDimension bedrockDimension = session.getBedrockDimension();
-        int bedrockSubChunkCount = bedrockDimension.height() >> 4;
-
-        byte[] payload;
-        // Allocate output buffer
-        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer(ChunkUtils.EMPTY_BIOME_DATA.length * bedrockSubChunkCount + 1); // Consists only of biome data and border blocks
-        try {
-            byteBuf.writeBytes(EMPTY_BIOME_DATA);
-            for (int i = 1; i < bedrockSubChunkCount; i++) {
-                byteBuf.writeByte((127 << 1) | 1);
-            }
-
-            byteBuf.writeByte(0); // Border blocks - Edu edition only
-
-            payload = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(payload);
-
-            LevelChunkPacket data = new LevelChunkPacket();
-            data.setDimension(session.getBedrockDimension().bedrockId());
-            data.setChunkX(chunkX);
-            data.setChunkZ(chunkZ);
-            data.setSubChunksLength(0);
-            data.setData(Unpooled.wrappedBuffer(payload));
-            data.setCachingEnabled(false);
-            session.sendUpstreamPacket(data);
-        } finally {
-            byteBuf.release();
-        }
+        LevelChunkPacket data = new LevelChunkPacket();
+        data.setDimension(session.getBedrockDimension().bedrockId());
+        data.setChunkX(chunkX);
+        data.setChunkZ(chunkZ);
+        data.setSubChunksLength(0);
+        // Duplicate so every packet gets its own reader index over the shared contents
+        data.setData(emptyChunkPayload(session.getBedrockDimension()).duplicate());
+        data.setCachingEnabled(false);
+        session.sendUpstreamPacket(data);
 
         if (forceUpdate) {
             Vector3i pos = Vector3i.from(chunkX << 4, 80, chunkZ << 4);
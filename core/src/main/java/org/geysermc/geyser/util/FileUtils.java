@@ -154,7 +154,16 @@ public class FileUtils {
         byte[] sha256;
 
         try {
-            sha256 = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(path));
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // Stream the file, so large packs are not held in memory in full
+            try (InputStream stream = Files.newInputStream(path)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            sha256 = digest.digest();
         } catch (Exception e) {
             throw new RuntimeException("Could not calculate pack hash", e);
         }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.cloudburstmc.protocol.bedrock.data.auth.AuthPayload;
+import org.cloudburstmc.protocol.bedrock.data.auth.CertificateChainPayload;
+import org.cloudburstmc.protocol.bedrock.util.ChainValidationResult;
+import org.cloudburstmc.protocol.bedrock.util.EncryptionUtils;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the expensive parts of a Bedrock login off the network threads.
+ * <ul>
+ *     <li>Signature checks and the key agreement run on a small bounded pool. Once its queue is full, new logins
+ *     are turned away instead of piling up, which matters when a proxy restart reconnects everyone at once.</li>
+ *     <li>Certificate chains that have been verified are remembered until they expire. Reconnecting clients present
+ *     the exact same chain, so it only needs to be checked once.</li>
+ *     <li>Server key pairs for the encryption handshake are generated ahead of time.</li>
+ * </ul>
+ */
+final class LoginCrypto {
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int MAX_QUEUED_LOGINS = Integer.getInteger("Geyser.MaxQueuedLogins", 256);
+    private static final int KEY_PAIR_POOL_SIZE = 32;
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(MAX_QUEUED_LOGINS), new DefaultThreadFactory("Geyser Login Crypto", true),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    private static final Cache<List<String>, VerifiedChain> VERIFIED_CHAINS = CacheBuilder.newBuilder()
+        .expireAfterWrite(1, TimeUnit.DAYS)
+        .maximumSize(4096)
+        .build();
+
+    private static final BlockingQueue<KeyPair> KEY_PAIRS = new ArrayBlockingQueue<>(KEY_PAIR_POOL_SIZE);
+    private static final AtomicBoolean REFILLING = new AtomicBoolean();
+
+    private LoginCrypto() {
+    }
+
+    /**
+     * @return the pool that login verification runs on; throws a {@link java.util.concurrent.RejectedExecutionException}
+     * when too many logins are already waiting
+     */
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    static ChainValidationResult validatePayload(AuthPayload payload) throws Exception {
+        if (!(payload instanceof CertificateChainPayload chainPayload)) {
+            return EncryptionUtils.validatePayload(payload);
+        }
+
+        List<String> chain = chainPayload.getChain();
+        VerifiedChain verified = VERIFIED_CHAINS.getIfPresent(chain);
+        if (verified != null && verified.expiresAt() > System.currentTimeMillis()) {
+            return verified.result();
+        }
+
+        ChainValidationResult result = EncryptionUtils.validatePayload(payload);
+        long expiresAt = expiry(chain);
+        if (expiresAt > System.currentTimeMillis()) {
+            VERIFIED_CHAINS.put(List.copyOf(chain), new VerifiedChain(result, expiresAt));
+        }
+        return result;
+    }
+
+    /**
+     * @return a fresh key pair for the encryption handshake, preferably one that was generated ahead of time
+     */
+    static KeyPair takeKeyPair() {
+        KeyPair keyPair = KEY_PAIRS.poll();
+        if (KEY_PAIRS.size() < KEY_PAIR_POOL_SIZE / 2 && REFILLING.compareAndSet(false, true)) {
+            try {
+                EXECUTOR.execute(LoginCrypto::refillKeyPairs);
+            } catch (Exception e) {
+                // Logins take priority over the pool
+                REFILLING.set(false);
+            }
+        }
+        return keyPair != null ? keyPair : EncryptionUtils.createKeyPair();
+    }
+
+    private static void refillKeyPairs() {
+        try {
+            while (KEY_PAIRS.remainingCapacity() > 0) {
+                if (!KEY_PAIRS.offer(EncryptionUtils.createKeyPair())) {
+                    break;
+                }
+            }
+        } finally {
+            REFILLING.set(false);
+        }
+    }
+
+    /**
+     * @return the earliest expiry of all links in the chain in milliseconds, or 0 if it cannot be determined
+     */
+    private static long expiry(List<String> chain) {
+        long expiresAt = Long.MAX_VALUE;
+        for (String jwt : chain) {
+            long exp = claim(jwt, "exp");
+            if (exp <= 0) {
+                return 0;
+            }
+            expiresAt = Math.min(expiresAt, TimeUnit.SECONDS.toMillis(exp));
+        }
+        return expiresAt == Long.MAX_VALUE ? 0 : expiresAt;
+    }
+
+    private static long claim(String jwt, String name) {
+        int start = jwt.indexOf('.');
+        int end = jwt.indexOf('.', start + 1);
+        if (start < 0 || end < 0) {
+            return 0;
+        }
+        try {
+            JsonNode claims = JSON_MAPPER.readTree(Base64.getUrlDecoder().decode(jwt.substring(start + 1, end)));
+            JsonNode value = claims.get(name);
+            return value == null ? 0 : value.asLong();
+        } catch (Exception e) {
+            GeyserImpl.getInstance().getLogger().debug("Unable to read claim " + name + " of chain link: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private record VerifiedChain(ChainValidationResult result, long expiresAt) {
+    }
+}
@@ -28,7 +28,9 @@ package org.geysermc.geyser.util;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.EventLoop;
 import net.raphimc.minecraftauth.step.msa.StepMsaDeviceCode;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.auth.AuthPayload;
 import org.cloudburstmc.protocol.bedrock.data.auth.CertificateChainPayload;
 import org.cloudburstmc.protocol.bedrock.packet.LoginPacket;
@@ -54,6 +56,9 @@ import javax.crypto.SecretKey;
 import java.security.KeyPair;
 import java.security.PublicKey;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 
 public class LoginEncryptionUtils {
@@ -61,37 +66,45 @@ public class LoginEncryptionUtils {
 
     private static boolean HAS_SENT_ENCRYPTION_MESSAGE = false;
 
-    public static void encryptPlayerConnection(GeyserSession session, LoginPacket loginPacket) {
-        encryptConnectionWithCert(session, loginPacket.getAuthPayload(), loginPacket.getClientJwt());
-    }
+    /**
+     * Verifies the login chain and client data, and starts encryption. The signature checks and key agreement run on a
+     * dedicated pool; the returned future completes on the connection's event loop once the session has either been set up
+     * or disconnected.
+     */
+    public static CompletableFuture<Void> encryptPlayerConnection(GeyserSession session, LoginPacket loginPacket) {
+        AuthPayload authPayload = loginPacket.getAuthPayload();
+        String jwt = loginPacket.getClientJwt();
+        EventLoop eventLoop = session.getUpstream().getSession().getPeer().getChannel().eventLoop();
 
-    private static void encryptConnectionWithCert(GeyserSession session, AuthPayload authPayload, String jwt) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
         try {
-            GeyserImpl geyser = session.getGeyser();
+            CompletableFuture.supplyAsync(() -> verifyLogin(session.getGeyser(), authPayload, jwt), LoginCrypto.executor())
+                .whenCompleteAsync((login, throwable) -> {
+                    try {
+                        if (throwable != null) {
+                            session.disconnect("disconnectionScreen.internalError.cantConnect");
+                            session.getGeyser().getLogger().error("Unable to complete login", throwable);
+                        } else if (!session.isClosed()) {
+                            applyLogin(session, authPayload, login);
+                        }
+                    } finally {
+                        future.complete(null);
+                    }
+                }, eventLoop);
+        } catch (RejectedExecutionException e) {
+            // Too many logins are waiting already; the client can simply try again
+            session.disconnect("disconnectionScreen.serverFull");
+            future.complete(null);
+        }
+        return future;
+    }
 
-            ChainValidationResult result = EncryptionUtils.validatePayload(authPayload);
+    private static VerifiedLogin verifyLogin(GeyserImpl geyser, AuthPayload authPayload, String jwt) {
+        try {
+            ChainValidationResult result = LoginCrypto.validatePayload(authPayload);
 
             geyser.getLogger().debug(String.format("Is player data signed? %s", result.signed()));
 
-            IdentityData extraData = result.identityClaims().extraData;
-                  String xuid;
-                  if (result.signed()) {
-                          xuid = extraData.xuid;
-                      } else {
-                          var bytes = ("OfflinePlayer:" + extraData.displayName).getBytes(StandardCharsets.UTF_8);
-                          long lxuid = UUID.nameUUIDFromBytes(bytes).getLeastSignificantBits();
-                          if (lxuid == 0) lxuid = Long.MIN_VALUE;
-                          if (lxuid > 0) lxuid = -lxuid;
-                          xuid = Long.toString(lxuid);
-                      }
-            session.setAuthData(new AuthData(extraData.displayName, extraData.identity, xuid));
-            if (authPayload instanceof CertificateChainPayload certificateChainPayload) {
-                session.setCertChainData(certificateChainPayload.getChain());
-            } else {
-                GeyserImpl.getInstance().getLogger().warning("Received new auth payload!");
-                session.setCertChainData(List.of());
-            }
-
             PublicKey identityPublicKey = result.identityClaims().parsedIdentityPublicKey();
 
             byte[] clientDataPayload = EncryptionUtils.verifyClientData(jwt, identityPublicKey);
@@ -102,10 +115,10 @@ public class LoginEncryptionUtils {
             JsonNode clientDataJson = JSON_MAPPER.readTree(clientDataPayload);
             BedrockClientData data = JSON_MAPPER.convertValue(clientDataJson, BedrockClientData.class);
             data.setOriginalString(jwt);
-            session.setClientData(data);
 
+            EncryptionHandshake handshake = null;
             try {
-                startEncryptionHandshake(session, identityPublicKey);
+                handshake = createEncryptionHandshake(identityPublicKey);
             } catch (Throwable e) {
                 // An error can be thrown on older Java 8 versions about an invalid key
                 if (geyser.getConfig().isDebugMode()) {
@@ -114,22 +127,52 @@ public class LoginEncryptionUtils {
 
                 sendEncryptionFailedMessage(geyser);
             }
+            return new VerifiedLogin(result, data, handshake);
         } catch (Exception ex) {
-            session.disconnect("disconnectionScreen.internalError.cantConnect");
-            throw new RuntimeException("Unable to complete login", ex);
+            throw new CompletionException(ex);
         }
     }
 
-    private static void startEncryptionHandshake(GeyserSession session, PublicKey key) throws Exception {
-        KeyPair serverKeyPair = EncryptionUtils.createKeyPair();
-        byte[] token = EncryptionUtils.generateRandomToken();
+    private static void applyLogin(GeyserSession session, AuthPayload authPayload, VerifiedLogin login) {
+        ChainValidationResult result = login.result();
+        IdentityData extraData = result.identityClaims().extraData;
+        String xuid;
+        if (result.signed()) {
+            xuid = extraData.xuid;
+        } else {
+            var bytes = ("OfflinePlayer:" + extraData.displayName).getBytes(StandardCharsets.UTF_8);
+            long lxuid = UUID.nameUUIDFromBytes(bytes).getLeastSignificantBits();
+            if (lxuid == 0) lxuid = Long.MIN_VALUE;
+            if (lxuid > 0) lxuid = -lxuid;
+            xuid = Long.toString(lxuid);
+        }
+        session.setAuthData(new AuthData(extraData.displayName, extraData.identity, xuid));
+        if (authPayload instanceof CertificateChainPayload certificateChainPayload) {
+            session.setCertChainData(certificateChainPayload.getChain());
+        } else {
+            GeyserImpl.getInstance().getLogger().warning("Received new auth payload!");
+            session.setCertChainData(List.of());
+        }
+
+        session.setClientData(login.clientData());
+
+        EncryptionHandshake handshake = login.handshake();
+        if (handshake != null) {
+            ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
+            packet.setJwt(handshake.jwt());
+            session.sendUpstreamPacketImmediately(packet);
 
-        ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
-        packet.setJwt(EncryptionUtils.createHandshakeJwt(serverKeyPair, token));
-        session.sendUpstreamPacketImmediately(packet);
+            session.getUpstream().getSession().enableEncryption(handshake.encryptionKey());
+        }
+    }
 
+    private static EncryptionHandshake createEncryptionHandshake(PublicKey key) throws Exception {
+        KeyPair serverKeyPair = LoginCrypto.takeKeyPair();
+        byte[] token = EncryptionUtils.generateRandomToken();
+
+        String jwt = EncryptionUtils.createHandshakeJwt(serverKeyPair, token);
         SecretKey encryptionKey = EncryptionUtils.getSecretKey(serverKeyPair.getPrivate(), key, token);
-        session.getUpstream().getSession().enableEncryption(encryptionKey);
+        return new EncryptionHandshake(jwt, encryptionKey);
     }
 
     private static void sendEncryptionFailedMessage(GeyserImpl geyser) {
@@ -274,4 +317,10 @@ public class LoginEncryptionUtils {
         }
         return newValue.toString();
     }
+
+    private record VerifiedLogin(ChainValidationResult result, BedrockClientData clientData, @Nullable EncryptionHandshake handshake) {
+    }
+
+    private record EncryptionHandshake(String jwt, SecretKey encryptionKey) {
+    }
 }
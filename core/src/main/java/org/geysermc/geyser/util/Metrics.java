@@ -181,9 +181,8 @@ public class Metrics {
         pluginData.add(getPluginData());
         data.putPOJO("plugins", pluginData);
 
-        new Thread(() -> {
+        BlockingIoExecutor.get().execute(() -> {
             try {
-                // We are still in the Thread of the timer, so nothing get blocked :)
                 sendData(data);
             } catch (Exception e) {
                 // Something went wrong! :(
@@ -191,7 +190,7 @@ public class Metrics {
                     logger.log(Level.WARNING, "Could not submit stats of " + name, e);
                 }
             }
-        }).start();
+        });
     }
 
     /**
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.geysermc.geyser.GeyserLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the startup phases of Geyser and records how long each one takes.
+ * <p>
+ * Phases form a small dependency graph: a phase started with {@link #runAsync(String, Runnable, Phase...)} runs on a
+ * startup thread as soon as the phases it depends on are done, while phases started with
+ * {@link #run(String, Runnable, Phase...)} run on the calling thread.
+ */
+public final class StartupProfiler {
+    private final long startNanos = System.nanoTime();
+    private final List<Phase> phases = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService executor;
+
+    /**
+     * Runs the phase on the calling thread, after waiting for its dependencies.
+     */
+    public Phase run(String name, Runnable task, Phase... dependencies) {
+        for (Phase dependency : dependencies) {
+            dependency.future.join();
+        }
+        Phase phase = new Phase(name, dependencies);
+        phases.add(phase);
+        try {
+            phase.run(task);
+        } catch (Throwable t) {
+            // Don't leave phases that depend on this one waiting forever
+            phase.future.completeExceptionally(t);
+            throw t;
+        }
+        phase.future.complete(null);
+        return phase;
+    }
+
+    /**
+     * Runs the phase on a startup thread, once its dependencies are done.
+     * Call {@link #awaitAll()} to wait for all such phases, and to rethrow their failures.
+     */
+    public Phase runAsync(String name, Runnable task, Phase... dependencies) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)),
+                new DefaultThreadFactory("Geyser Startup Thread", true));
+        }
+        Phase phase = new Phase(name, dependencies);
+        phases.add(phase);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            futures[i] = dependencies[i].future;
+        }
+        CompletableFuture.allOf(futures)
+            .thenRunAsync(() -> phase.run(task), executor)
+            .whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    phase.future.completeExceptionally(throwable);
+                } else {
+                    phase.future.complete(null);
+                }
+            });
+        return phase;
+    }
+
+    /**
+     * Waits for every phase to finish.
+     *
+     * @throws RuntimeException the first failure of a phase
+     */
+    public void awaitAll() {
+        try {
+            List<Phase> phases;
+            synchronized (this.phases) {
+                phases = List.copyOf(this.phases);
+            }
+            for (Phase phase : phases) {
+                phase.future.join();
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+    }
+
+    /**
+     * @return the timings of all finished phases, in the order they were started
+     */
+    public List<PhaseTiming> timings() {
+        List<PhaseTiming> timings = new ArrayList<>();
+        synchronized (phases) {
+            for (Phase phase : phases) {
+                if (phase.timing != null) {
+                    timings.add(phase.timing);
+                }
+            }
+        }
+        return timings;
+    }
+
+    public void log(GeyserLogger logger) {
+        for (PhaseTiming timing : timings()) {
+            logger.debug("Startup phase " + timing.name() + " took " + timing.millis() + "ms, starting at "
+                + timing.startedAtMillis() + "ms on " + timing.thread()
+                + (timing.dependencies().isEmpty() ? "" : " after " + String.join(", ", timing.dependencies())));
+        }
+    }
+
+    public final class Phase {
+        private final String name;
+        private final List<String> dependencies;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile PhaseTiming timing;
+
+        private Phase(String name, Phase[] dependencies) {
+            this.name = name;
+            this.dependencies = new ArrayList<>(dependencies.length);
+            for (Phase dependency : dependencies) {
+                this.dependencies.add(dependency.name);
+            }
+        }
+
+        private void run(Runnable task) {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                long end = System.nanoTime();
+                this.timing = new PhaseTiming(name, TimeUnit.NANOSECONDS.toMillis(start - startNanos),
+                    TimeUnit.NANOSECONDS.toMillis(end - start), Thread.currentThread().getName(), List.copyOf(dependencies));
+            }
+        }
+    }
+
+    /**
+     * @param startedAtMillis when the phase started, relative to the start of the profiler
+     */
+    public record PhaseTiming(String name, long startedAtMillis, long millis, String thread, List<String> dependencies) {
+    }
+}
@@ -126,7 +126,7 @@ public final class VersionCheckUtils {
             } catch (Exception e) {
                 GeyserImpl.getInstance().getLogger().error("Error whilst checking for Geyser update!", e);
             }
-        });
+        }, BlockingIoExecutor.get());
     }
 
     public static @NonNull OptionalInt getLatestBedrockRelease() {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactChunkSectionTest {
+
+    @Test
+    public void testGrowsThroughEveryFormat() {
+        Random random = new Random(0);
+        for (int distinct : new int[] {1, 2, 3, 16, 17, 256, 257, 2000}) {
+            CompactChunkSection section = CompactChunkSection.single(0);
+            int[] expected = new int[CompactChunkSection.SIZE];
+            for (int i = 0; i < 8192; i++) {
+                int x = random.nextInt(16);
+                int y = random.nextInt(16);
+                int z = random.nextInt(16);
+                int state = random.nextInt(distinct) * 7;
+                section.set(x, y, z, state);
+                expected[(y << 8) | (z << 4) | x] = state;
+            }
+            for (int i = 0; i < CompactChunkSection.SIZE; i++) {
+                assertEquals(expected[i], section.get(i), "Mismatch with " + distinct + " states at " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testFromDataPalette() {
+        DataPalette palette = DataPalette.createForChunk();
+        palette.set(1, 2, 3, 10);
+        palette.set(15, 15, 15, 20);
+        // Leaves an unused entry in the Java palette
+        palette.set(4, 4, 4, 30);
+        palette.set(4, 4, 4, 0);
+
+        CompactChunkSection section = CompactChunkSection.from(palette);
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    assertEquals(palette.get(x, y, z), section.get(x, y, z));
+                }
+            }
+        }
+        // Three states in use need two bits per block
+        assertTrue(section.memoryUsage() < 1200);
+    }
+
+    @Test
+    public void testSharedSectionsAreInternedAndCopiedOnWrite() {
+        CompactChunkSection first = CompactChunkSection.single(0);
+        first.set(1, 1, 1, 9);
+        CompactChunkSection second = CompactChunkSection.single(0);
+        second.set(1, 1, 1, 9);
+
+        int size = SharedSectionStore.size();
+        CompactChunkSection shared = SharedSectionStore.intern(first);
+        assertSame(shared, SharedSectionStore.intern(second));
+        assertEquals(size + 1, SharedSectionStore.size());
+        assertThrows(IllegalStateException.class, () -> shared.set(0, 0, 0, 9));
+
+        CompactChunkSection copy = shared.copy();
+        copy.set(0, 0, 0, 9);
+        assertEquals(9, copy.get(0, 0, 0));
+        assertEquals(0, shared.get(0, 0, 0));
+
+        SharedSectionStore.release(shared);
+        assertEquals(size + 1, SharedSectionStore.size());
+        SharedSectionStore.release(shared);
+        assertEquals(size, SharedSectionStore.size());
+    }
+
+    @Test
+    public void testUniformPaletteBecomesSingle() {
+        DataPalette palette = DataPalette.createForChunk();
+        palette.set(0, 0, 0, 5);
+        palette.set(0, 0, 0, 0);
+
+        assertTrue(CompactChunkSection.from(palette).isSingle(0));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CIDRTrieTest {
+
+    @Test
+    public void testIpv4() throws UnknownHostException {
+        CIDRTrie trie = new CIDRTrie.Builder()
+            .add("127.0.0.1")
+            .add("172.18.0.0/16")
+            .add("10.1.2.3/8") // host bits are ignored
+            .build();
+
+        assertTrue(trie.matches(address("127.0.0.1")));
+        assertFalse(trie.matches(address("127.0.0.2")));
+        assertTrue(trie.matches(address("172.18.255.1")));
+        assertFalse(trie.matches(address("172.19.0.1")));
+        assertTrue(trie.matches(address("10.200.0.1")));
+        assertFalse(trie.matches(address("11.0.0.1")));
+        assertFalse(trie.matches(address("::1")));
+    }
+
+    @Test
+    public void testIpv6() throws UnknownHostException {
+        CIDRTrie trie = new CIDRTrie.Builder()
+            .add("2001:db8::/32")
+            .add("::1")
+            .build();
+
+        assertTrue(trie.matches(address("2001:db8:1234::1")));
+        assertFalse(trie.matches(address("2001:db9::1")));
+        assertTrue(trie.matches(address("::1")));
+        assertFalse(trie.matches(address("::2")));
+        assertFalse(trie.matches(address("127.0.0.1")));
+    }
+
+    @Test
+    public void testOverlappingRanges() throws UnknownHostException {
+        // A longer range added after a shorter one, and the other way around
+        CIDRTrie trie = new CIDRTrie.Builder()
+            .add("192.168.0.0/16")
+            .add("192.168.1.0/24")
+            .add("10.0.0.5/32")
+            .add("10.0.0.0/24")
+            .add("0.0.0.0/0")
+            .build();
+
+        assertTrue(trie.matches(address("192.168.1.1")));
+        assertTrue(trie.matches(address("10.0.0.200")));
+        assertTrue(trie.matches(address("8.8.8.8")));
+        assertFalse(trie.matches(address("::1")));
+    }
+
+    @Test
+    public void testInvalidEntries() {
+        CIDRTrie.Builder builder = new CIDRTrie.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.add(""));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("10.0.0.0/33"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("10.0.0.0/abc"));
+        assertTrue(builder.build().isEmpty());
+    }
+
+    @Test
+    public void testToInt() throws UnknownHostException {
+        assertEquals(0xC0A80001, CIDRTrie.toInt(address("192.168.0.1").getAddress()));
+        assertEquals(0, CIDRTrie.toInt(address("0.0.0.0").getAddress()));
+        assertEquals(-1, CIDRTrie.toInt(address("255.255.255.255").getAddress()));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            int expected = random.nextInt();
+            assertEquals(expected, CIDRTrie.toInt(address(toString(expected)).getAddress()));
+        }
+    }
+
+    @Test
+    public void testMatchesPlainMaskComparison() {
+        Random random = new Random(42);
+        int[] networks = new int[500];
+        int[] prefixLengths = new int[networks.length];
+        CIDRTrie.Builder builder = new CIDRTrie.Builder();
+        for (int i = 0; i < networks.length; i++) {
+            networks[i] = random.nextInt();
+            prefixLengths[i] = 8 + random.nextInt(25);
+            builder.add(toString(networks[i]) + "/" + prefixLengths[i]);
+        }
+        CIDRTrie trie = builder.build();
+
+        for (int i = 0; i < 20_000; i++) {
+            // Mix in addresses close to the ranges, so both outcomes are covered
+            int address = i % 2 == 0 ? random.nextInt() : networks[random.nextInt(networks.length)] ^ random.nextInt(1 << 16);
+            boolean expected = false;
+            for (int j = 0; j < networks.length; j++) {
+                int mask = -1 << (32 - prefixLengths[j]);
+                if ((address & mask) == (networks[j] & mask)) {
+                    expected = true;
+                    break;
+                }
+            }
+            assertEquals(expected, trie.matchesIpv4(address), toString(address));
+        }
+    }
+
+    private static InetAddress address(String address) throws UnknownHostException {
+        return InetAddress.getByName(address);
+    }
+
+    private static String toString(int address) {
+        return (address >>> 24) + "." + (address >>> 16 & 0xFF) + "." + (address >>> 8 & 0xFF) + "." + (address & 0xFF);
+    }
+}
@@ -25,18 +25,28 @@
 
 package org.geysermc.geyser.registry.loader;
 
+import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.pack.ResourcePack;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ResourcePackLoaderTest {
+    private static final String FAKE_SHA256 = "00".repeat(32);
 
     @Test
     public void testPathMatcher() {
@@ -75,6 +85,93 @@ public class ResourcePackLoaderTest {
         assertEquals("JAGcSXcXwcODc1YS70GzeWAUKEO172UA", pack.contentKey());
     }
 
+    @Test
+    public void testIndexHitSkipsHashing(@TempDir Path directory) throws Exception {
+        Path pack = copyResource("empty_pack.mcpack", directory);
+        Path indexFile = directory.resolve("index.json");
+        ResourcePack read = readIndexed(indexFile, pack);
+
+        // Replace the hash in the index, so we can tell whether the pack was hashed again
+        rewriteIndex(indexFile, entry -> withSha256(entry, FAKE_SHA256));
+        ResourcePack indexed = readIndexed(indexFile, pack);
+        assertEquals(FAKE_SHA256, HexFormat.of().formatHex(indexed.codec().sha256()));
+        assertEquals(read.uuid(), indexed.uuid());
+    }
+
+    @Test
+    public void testIndexMissAfterPackChange(@TempDir Path directory) throws Exception {
+        Path pack = copyResource("empty_pack.mcpack", directory);
+        Path indexFile = directory.resolve("index.json");
+        String sha256 = HexFormat.of().formatHex(readIndexed(indexFile, pack).codec().sha256());
+
+        rewriteIndex(indexFile, entry -> withSha256(entry, FAKE_SHA256));
+        FileTime lastModified = Files.getLastModifiedTime(pack);
+        Files.setLastModifiedTime(pack, FileTime.fromMillis(lastModified.toMillis() + 10_000));
+        assertEquals(sha256, HexFormat.of().formatHex(readIndexed(indexFile, pack).codec().sha256()));
+
+        // The same for a different size, with the modification time in the index being correct
+        rewriteIndex(indexFile, entry -> new ResourcePackIndex.Entry(entry.size() + 1, entry.lastModified(),
+            entry.keyLastModified(), FAKE_SHA256, entry.manifest()));
+        assertEquals(sha256, HexFormat.of().formatHex(readIndexed(indexFile, pack).codec().sha256()));
+    }
+
+    @Test
+    public void testIndexMissAfterKeyFileChange(@TempDir Path directory) throws Exception {
+        Path pack = copyResource("encrypted_pack.zip", directory);
+        Path keyFile = copyResource("encrypted_pack.zip.key", directory);
+        Path indexFile = directory.resolve("index.json");
+        String sha256 = HexFormat.of().formatHex(readIndexed(indexFile, pack).codec().sha256());
+
+        rewriteIndex(indexFile, entry -> withSha256(entry, FAKE_SHA256));
+        FileTime lastModified = Files.getLastModifiedTime(keyFile);
+        Files.setLastModifiedTime(keyFile, FileTime.fromMillis(lastModified.toMillis() + 10_000));
+        ResourcePack read = readIndexed(indexFile, pack);
+        assertEquals(sha256, HexFormat.of().formatHex(read.codec().sha256()));
+        assertEquals("JAGcSXcXwcODc1YS70GzeWAUKEO172UA", read.contentKey());
+    }
+
+    @Test
+    public void testContentKeyIsNotIndexed(@TempDir Path directory) throws Exception {
+        Path pack = copyResource("encrypted_pack.zip", directory);
+        Path keyFile = copyResource("encrypted_pack.zip.key", directory);
+        Path indexFile = directory.resolve("index.json");
+        String contentKey = readIndexed(indexFile, pack).contentKey();
+        assertFalse(Files.readString(indexFile).contains(contentKey));
+
+        // Even when the index is used, the key comes from the key file
+        rewriteIndex(indexFile, entry -> withSha256(entry, FAKE_SHA256));
+        FileTime lastModified = Files.getLastModifiedTime(keyFile);
+        Files.writeString(keyFile, "0123456789abcdef0123456789abcdef");
+        Files.setLastModifiedTime(keyFile, lastModified);
+        ResourcePack read = readIndexed(indexFile, pack);
+        assertEquals(FAKE_SHA256, HexFormat.of().formatHex(read.codec().sha256()));
+        assertEquals("0123456789abcdef0123456789abcdef", read.contentKey());
+    }
+
+    private static ResourcePack readIndexed(Path indexFile, Path pack) {
+        ResourcePackIndex index = ResourcePackIndex.load(indexFile);
+        ResourcePack read = index.read(pack).build();
+        index.save();
+        return read;
+    }
+
+    private static void rewriteIndex(Path indexFile, UnaryOperator<ResourcePackIndex.Entry> change) throws IOException {
+        ResourcePackIndex.IndexFile index = GeyserImpl.JSON_MAPPER.readValue(indexFile.toFile(), ResourcePackIndex.IndexFile.class);
+        Map<String, ResourcePackIndex.Entry> packs = new HashMap<>();
+        Objects.requireNonNull(index.packs()).forEach((key, entry) -> packs.put(key, change.apply(entry)));
+        GeyserImpl.JSON_MAPPER.writeValue(indexFile.toFile(), new ResourcePackIndex.IndexFile(index.version(), packs));
+    }
+
+    private static ResourcePackIndex.Entry withSha256(ResourcePackIndex.Entry entry, String sha256) {
+        return new ResourcePackIndex.Entry(entry.size(), entry.lastModified(), entry.keyLastModified(), sha256, entry.manifest());
+    }
+
+    private Path copyResource(String name, Path directory) throws URISyntaxException, IOException {
+        Path copy = directory.resolve(name);
+        Files.copy(getResource(name), copy);
+        return copy;
+    }
+
     private Path getResource(String name) throws URISyntaxException {
         URL url = Objects.requireNonNull(getClass().getClassLoader().getResource(name), "No resource for name: " + name);
         return Path.of(url.toURI());
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.tick;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.geysermc.geyser.session.tick.SessionTickDispatcher.RESOLUTION_NANOS;
+import static org.geysermc.geyser.session.tick.SessionTickDispatcher.WHEEL_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionTickDispatcherTest {
+    private EventLoop eventLoop;
+    private SessionTickDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        eventLoop = new DefaultEventLoop();
+        dispatcher = new SessionTickDispatcher(eventLoop);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    public void testDeadlineRounding() {
+        assertEquals(0, SessionTickDispatcher.ceilTicks(0));
+        assertEquals(1, SessionTickDispatcher.ceilTicks(1));
+        assertEquals(1, SessionTickDispatcher.ceilTicks(RESOLUTION_NANOS));
+        assertEquals(2, SessionTickDispatcher.ceilTicks(RESOLUTION_NANOS + 1));
+        assertEquals(WHEEL_SIZE + 1, SessionTickDispatcher.ceilTicks(WHEEL_SIZE * RESOLUTION_NANOS + 1));
+
+        assertEquals(0, SessionTickDispatcher.floorTicks(RESOLUTION_NANOS - 1));
+        assertEquals(1, SessionTickDispatcher.floorTicks(RESOLUTION_NANOS));
+    }
+
+    @Test
+    public void testNeverRunsEarly() throws InterruptedException {
+        for (long delayMillis : new long[] {0, 1, 7, 23}) {
+            long scheduled = System.nanoTime();
+            AtomicLong ran = new AtomicLong();
+            CountDownLatch latch = new CountDownLatch(1);
+            dispatcher.schedule(() -> {
+                ran.set(System.nanoTime());
+                latch.countDown();
+            }, delayMillis, TimeUnit.MILLISECONDS);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS), "Task delayed by " + delayMillis + "ms never ran");
+            assertTrue(ran.get() - scheduled >= TimeUnit.MILLISECONDS.toNanos(delayMillis), "Task delayed by " + delayMillis + "ms ran early");
+        }
+    }
+
+    @Test
+    public void testDelayLongerThanOneRotation() throws InterruptedException {
+        long rotationMillis = TimeUnit.NANOSECONDS.toMillis(WHEEL_SIZE * RESOLUTION_NANOS);
+        long delayMillis = rotationMillis + 200;
+        CountDownLatch latch = new CountDownLatch(1);
+        dispatcher.schedule(latch::countDown, delayMillis, TimeUnit.MILLISECONDS);
+
+        // The task's slot comes around once before its deadline, and must be skipped then
+        assertFalse(latch.await(rotationMillis + 100, TimeUnit.MILLISECONDS), "Task ran a rotation early");
+        assertTrue(latch.await(1, TimeUnit.SECONDS), "Task never ran");
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        SessionTimeout oneShot = dispatcher.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        SessionTimeout periodic = dispatcher.scheduleAtFixedRate(runs::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(10));
+        oneShot.cancel();
+        periodic.cancel();
+        assertTrue(oneShot.isDone());
+        assertTrue(periodic.isDone());
+
+        CountDownLatch later = new CountDownLatch(1);
+        dispatcher.schedule(later::countDown, 100, TimeUnit.MILLISECONDS);
+        assertTrue(later.await(1, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    public void testPeriodicTaskCancelsItself() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        SessionTimeout[] timeout = new SessionTimeout[1];
+        CountDownLatch latch = new CountDownLatch(3);
+        eventLoop.execute(() -> timeout[0] = dispatcher.scheduleAtFixedRate(() -> {
+            latch.countDown();
+            if (runs.incrementAndGet() == 3) {
+                timeout[0].cancel();
+            }
+        }, TimeUnit.MILLISECONDS.toNanos(10)));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void testFixedRateBelowResolution() throws InterruptedException {
+        long periodNanos = RESOLUTION_NANOS / 5;
+        int samples = 100;
+        List<Long> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(samples);
+        SessionTimeout timeout = dispatcher.scheduleAtFixedRate(() -> {
+            runs.add(System.nanoTime());
+            latch.countDown();
+        }, periodNanos);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Only " + runs.size() + " runs");
+        timeout.cancel();
+
+        // On the wheel, every five runs would happen back to back once per wheel tick; on their own schedule they're spread out
+        int bursts = 0;
+        for (int i = 1; i < samples; i++) {
+            if (runs.get(i) - runs.get(i - 1) < periodNanos / 4) {
+                bursts++;
+            }
+        }
+        assertTrue(bursts < samples / 2, bursts + " of " + samples + " runs were not spread out");
+
+        // Let a run that was already in progress finish
+        Thread.sleep(10);
+        int ran = runs.size();
+        Thread.sleep(50);
+        assertEquals(ran, runs.size(), "Task kept running after being cancelled");
+    }
+}